@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.benchmarks;
+
+import eu.maveniverse.maven.mima.context.ContextOverrides;
+import eu.maveniverse.maven.mima.context.Runtime;
+import eu.maveniverse.maven.mima.runtime.standalonesisu.StandaloneSisuRuntime;
+import eu.maveniverse.maven.mima.runtime.standalonestatic.StandaloneStaticRuntime;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+
+/**
+ * Shared helpers for benchmarks.
+ */
+final class BenchmarkSupport {
+    private BenchmarkSupport() {}
+
+    /**
+     * Creates new instance of runtime by name. Runtimes are instantiated directly (and not discovered) as both
+     * runtimes are present on benchmark classpath.
+     */
+    static Runtime newRuntime(String name) {
+        switch (name) {
+            case "standalone-static":
+                return new StandaloneStaticRuntime();
+            case "standalone-sisu":
+                return new StandaloneSisuRuntime();
+            default:
+                throw new IllegalArgumentException("Unknown runtime: " + name);
+        }
+    }
+
+    /**
+     * Creates offline overrides using passed in local repository, optionally in pooled (static) and shared (sisu)
+     * mode.
+     */
+    static ContextOverrides overrides(Path localRepository, boolean pooled) {
+        ContextOverrides.Builder builder =
+                ContextOverrides.create().offline(true).withLocalRepositoryOverride(localRepository);
+        if (pooled) {
+            HashMap<String, Object> configProperties = new HashMap<>();
+            configProperties.put(StandaloneStaticRuntime.CONFIG_PROP_POOLED, "true");
+            configProperties.put(StandaloneSisuRuntime.CONFIG_PROP_SHARED, "true");
+            builder.configProperties(configProperties);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Deletes the passed in directory recursively.
+     */
+    static void deleteRecursively(Path directory) {
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    Files.delete(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                    Files.delete(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.benchmarks;
+
+import eu.maveniverse.maven.mima.context.Context;
+import eu.maveniverse.maven.mima.context.ContextOverrides;
+import eu.maveniverse.maven.mima.context.Runtime;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link Runtime#create(ContextOverrides)} latency. The "cold" benchmark creates context using new runtime
+ * instance every time, while "warm" one reuses runtime instance and asks for pooled mode (where supported), while
+ * one context is kept open for whole trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContextCreateBenchmark {
+    @Param({"standalone-static", "standalone-sisu"})
+    public String runtime;
+
+    private Path localRepository;
+
+    private Runtime warmRuntime;
+
+    private ContextOverrides coldOverrides;
+
+    private ContextOverrides warmOverrides;
+
+    private Context keepAlive;
+
+    @Setup
+    public void setup() throws IOException {
+        localRepository = Files.createTempDirectory("mima-bench");
+        coldOverrides = BenchmarkSupport.overrides(localRepository, false);
+        warmOverrides = BenchmarkSupport.overrides(localRepository, true);
+        warmRuntime = BenchmarkSupport.newRuntime(runtime);
+        keepAlive = warmRuntime.create(warmOverrides);
+    }
+
+    @TearDown
+    public void tearDown() {
+        keepAlive.close();
+        BenchmarkSupport.deleteRecursively(localRepository);
+    }
+
+    @Benchmark
+    public void cold(Blackhole blackhole) {
+        try (Context context = BenchmarkSupport.newRuntime(runtime).create(coldOverrides)) {
+            blackhole.consume(context.repositorySystemSession());
+        }
+    }
+
+    @Benchmark
+    public void warm(Blackhole blackhole) {
+        try (Context context = warmRuntime.create(warmOverrides)) {
+            blackhole.consume(context.repositorySystemSession());
+        }
+    }
+}
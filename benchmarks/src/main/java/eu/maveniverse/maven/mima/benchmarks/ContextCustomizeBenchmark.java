@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.benchmarks;
+
+import eu.maveniverse.maven.mima.context.Context;
+import eu.maveniverse.maven.mima.context.ContextOverrides;
+import eu.maveniverse.maven.mima.context.internal.RuntimeSupport;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link Context#customize(ContextOverrides)} latency, with and without reset of session cache and data, and
+ * with and without overlay customization. Run with {@code -prof gc} to compare allocation per customization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContextCustomizeBenchmark {
+    @Param({"standalone-static", "standalone-sisu"})
+    public String runtime;
+
+    @Param({"false", "true"})
+    public boolean reset;
+
+    @Param({"false", "true"})
+    public boolean overlay;
+
+    private Path localRepository;
+
+    private Context context;
+
+    private ContextOverrides customization;
+
+    @Setup
+    public void setup() throws IOException {
+        localRepository = Files.createTempDirectory("mima-bench");
+        context = BenchmarkSupport.newRuntime(runtime).create(BenchmarkSupport.overrides(localRepository, false));
+        customization = context.contextOverrides().toBuilder()
+                .userProperties(Collections.singletonMap("benchmark", "true"))
+                .withOverlayCustomization(overlay)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        BenchmarkSupport.deleteRecursively(localRepository);
+    }
+
+    @Benchmark
+    public void customize(Blackhole blackhole) {
+        try (Context customized =
+                ((RuntimeSupport) context.getRuntime()).customizeContext(customization, context, reset)) {
+            blackhole.consume(customized.repositorySystemSession());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+
+/**
+ * Generates a local repository with layered dependency graph: the root artifact depends on all artifacts of first
+ * layer, and each artifact of a layer depends on all artifacts of the next layer. Artifacts are "locally installed"
+ * (no {@code _remote.repositories} file), hence they are resolvable in offline mode.
+ */
+final class LocalRepositoryFixture {
+    static final String GROUP_ID = "eu.maveniverse.maven.mima.benchmarks";
+
+    static final String VERSION = "1.0";
+
+    private LocalRepositoryFixture() {}
+
+    /**
+     * The root artifact of generated graph.
+     */
+    static Artifact root() {
+        return new DefaultArtifact(GROUP_ID, "root", "jar", VERSION);
+    }
+
+    /**
+     * Creates fixture in passed in directory with given count of layers and layer width.
+     */
+    static Path create(Path localRepository, int layers, int width) {
+        try {
+            write(localRepository, "root", layers > 0 ? 0 : -1, width);
+            for (int layer = 0; layer < layers; layer++) {
+                for (int i = 0; i < width; i++) {
+                    write(localRepository, artifactId(layer, i), layer + 1 < layers ? layer + 1 : -1, width);
+                }
+            }
+            return localRepository;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String artifactId(int layer, int index) {
+        return "lib-" + layer + "-" + index;
+    }
+
+    private static void write(Path localRepository, String artifactId, int dependencyLayer, int width)
+            throws IOException {
+        Path dir = localRepository
+                .resolve(GROUP_ID.replace('.', '/'))
+                .resolve(artifactId)
+                .resolve(VERSION);
+        Files.createDirectories(dir);
+        StringBuilder pom = new StringBuilder();
+        pom.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+                .append("  <modelVersion>4.0.0</modelVersion>\n")
+                .append("  <groupId>")
+                .append(GROUP_ID)
+                .append("</groupId>\n")
+                .append("  <artifactId>")
+                .append(artifactId)
+                .append("</artifactId>\n")
+                .append("  <version>")
+                .append(VERSION)
+                .append("</version>\n");
+        if (dependencyLayer >= 0) {
+            pom.append("  <dependencies>\n");
+            for (int i = 0; i < width; i++) {
+                pom.append("    <dependency>\n")
+                        .append("      <groupId>")
+                        .append(GROUP_ID)
+                        .append("</groupId>\n")
+                        .append("      <artifactId>")
+                        .append(artifactId(dependencyLayer, i))
+                        .append("</artifactId>\n")
+                        .append("      <version>")
+                        .append(VERSION)
+                        .append("</version>\n")
+                        .append("    </dependency>\n");
+            }
+            pom.append("  </dependencies>\n");
+        }
+        pom.append("</project>\n");
+        String baseName = artifactId + "-" + VERSION;
+        Files.write(dir.resolve(baseName + ".pom"), pom.toString().getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve(baseName + ".jar"), artifactId.getBytes(StandardCharsets.UTF_8));
+    }
+}
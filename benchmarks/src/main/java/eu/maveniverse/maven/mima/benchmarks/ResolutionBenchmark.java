@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.benchmarks;
+
+import eu.maveniverse.maven.mima.context.Context;
+import eu.maveniverse.maven.mima.context.ContextOverrides;
+import eu.maveniverse.maven.mima.context.internal.RuntimeSupport;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.resolution.DependencyRequest;
+import org.eclipse.aether.resolution.DependencyResolutionException;
+import org.eclipse.aether.resolution.DependencyResult;
+import org.eclipse.aether.util.artifact.JavaScopes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures offline dependency resolution (same flow as "classpath" calculation) against generated local repository.
+ * The "shared" benchmark reuses the session (and hence session cache), while "fresh" one resolves with reset
+ * session, like a new request would do. Both may run with local repository manager keeping in-memory index of local
+ * repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResolutionBenchmark {
+    @Param({"standalone-static", "standalone-sisu"})
+    public String runtime;
+
+    @Param({"5"})
+    public int layers;
+
+    @Param({"5"})
+    public int width;
+
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    private Path localRepository;
+
+    private Context context;
+
+    @Setup
+    public void setup() throws IOException {
+        localRepository = LocalRepositoryFixture.create(Files.createTempDirectory("mima-bench"), layers, width);
+        ContextOverrides overrides = BenchmarkSupport.overrides(localRepository, false).toBuilder()
+                .configProperties(Collections.singletonMap(
+                        RuntimeSupport.CONFIG_PROP_INDEXED_LOCAL_REPOSITORY_MANAGER, String.valueOf(indexed)))
+                .build();
+        context = BenchmarkSupport.newRuntime(runtime).create(overrides);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        BenchmarkSupport.deleteRecursively(localRepository);
+    }
+
+    @Benchmark
+    public DependencyResult shared() throws DependencyResolutionException {
+        return resolve(context);
+    }
+
+    @Benchmark
+    public DependencyResult fresh() throws DependencyResolutionException {
+        try (Context fresh =
+                ((RuntimeSupport) context.getRuntime()).customizeContext(context.contextOverrides(), context, true)) {
+            return resolve(fresh);
+        }
+    }
+
+    private static DependencyResult resolve(Context context) throws DependencyResolutionException {
+        RepositorySystemSession session = context.repositorySystemSession();
+        CollectRequest collectRequest = new CollectRequest();
+        collectRequest.setRoot(new Dependency(LocalRepositoryFixture.root(), JavaScopes.RUNTIME));
+        collectRequest.setRepositories(context.remoteRepositories());
+        return context.repositorySystem().resolveDependencies(session, new DependencyRequest(collectRequest, null));
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+
+/**
+ * Compact, immutable representation of a dependency graph, meant for retaining large resolution results (and computing
+ * classpath or doing analysis on them) with small heap footprint. Nodes are identified by {@code int} index, where
+ * root node has index {@code 0} and other nodes follow in graph preorder. All coordinate strings are interned into one
+ * string table and nodes refer to them by index, and edges are kept in {@code int} adjacency arrays, so the graph
+ * occupies a fraction of memory of {@link DependencyNode} tree having many duplicated {@link Artifact} and
+ * {@link Dependency} instances.
+ * <p>
+ * The graph keeps the artifact coordinates and file, the scope and optionality of nodes and the shape of graph (shared
+ * nodes and cycles included). Other node data (like repositories, exclusions, managed bits or properties) is not kept.
+ * <p>
+ * Use {@link #of(DependencyNode)} to create compact graph from resolution result, and {@link #toDependencyNode()} to
+ * convert it back.
+ *
+ * @since 2.4.47
+ */
+public final class CompactDependencyGraph {
+    /**
+     * The "no value" index, for nodes without artifact or dependency.
+     */
+    public static final int NONE = -1;
+
+    private static final int GROUP_ID = 0;
+
+    private static final int ARTIFACT_ID = 1;
+
+    private static final int EXTENSION = 2;
+
+    private static final int CLASSIFIER = 3;
+
+    private static final int VERSION = 4;
+
+    private static final int SCOPE = 5;
+
+    private static final int FIELDS = 6;
+
+    private final String[] strings;
+
+    /**
+     * Indexes of strings in string table, {@link #FIELDS} per node.
+     */
+    private final int[] coordinates;
+
+    private final boolean[] optional;
+
+    private final File[] files;
+
+    /**
+     * Offsets of node children in {@link #children} array, one more than there are nodes.
+     */
+    private final int[] childOffsets;
+
+    private final int[] children;
+
+    private CompactDependencyGraph(
+            String[] strings, int[] coordinates, boolean[] optional, File[] files, int[] childOffsets, int[] children) {
+        this.strings = strings;
+        this.coordinates = coordinates;
+        this.optional = optional;
+        this.files = files;
+        this.childOffsets = childOffsets;
+        this.children = children;
+    }
+
+    /**
+     * Creates compact graph out of graph with given root node. The passed in graph is not modified and is not referenced
+     * by the returned instance.
+     */
+    public static CompactDependencyGraph of(DependencyNode root) {
+        requireNonNull(root);
+        IdentityHashMap<DependencyNode, Integer> ids = new IdentityHashMap<>();
+        ArrayList<DependencyNode> nodes = new ArrayList<>();
+        ArrayDeque<DependencyNode> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            DependencyNode node = stack.pop();
+            if (ids.putIfAbsent(node, nodes.size()) == null) {
+                nodes.add(node);
+                List<DependencyNode> nodeChildren = node.getChildren();
+                for (int i = nodeChildren.size() - 1; i >= 0; i--) {
+                    stack.push(nodeChildren.get(i));
+                }
+            }
+        }
+
+        int size = nodes.size();
+        HashMap<String, Integer> table = new HashMap<>();
+        ArrayList<String> strings = new ArrayList<>();
+        int[] coordinates = new int[size * FIELDS];
+        boolean[] optional = new boolean[size];
+        File[] files = new File[size];
+        int[] childOffsets = new int[size + 1];
+        int edges = 0;
+        for (int i = 0; i < size; i++) {
+            DependencyNode node = nodes.get(i);
+            Arrays.fill(coordinates, i * FIELDS, (i + 1) * FIELDS, NONE);
+            Artifact artifact = node.getArtifact();
+            if (artifact != null) {
+                coordinates[i * FIELDS + GROUP_ID] = intern(table, strings, artifact.getGroupId());
+                coordinates[i * FIELDS + ARTIFACT_ID] = intern(table, strings, artifact.getArtifactId());
+                coordinates[i * FIELDS + EXTENSION] = intern(table, strings, artifact.getExtension());
+                coordinates[i * FIELDS + CLASSIFIER] = intern(table, strings, artifact.getClassifier());
+                coordinates[i * FIELDS + VERSION] = intern(table, strings, artifact.getVersion());
+                files[i] = artifact.getFile();
+            }
+            Dependency dependency = node.getDependency();
+            if (dependency != null) {
+                coordinates[i * FIELDS + SCOPE] = intern(table, strings, dependency.getScope());
+                optional[i] = dependency.isOptional();
+            }
+            edges += node.getChildren().size();
+            childOffsets[i + 1] = edges;
+        }
+        int[] children = new int[edges];
+        for (int i = 0; i < size; i++) {
+            int offset = childOffsets[i];
+            for (DependencyNode child : nodes.get(i).getChildren()) {
+                children[offset++] = ids.get(child);
+            }
+        }
+        return new CompactDependencyGraph(
+                strings.toArray(new String[0]), coordinates, optional, files, childOffsets, children);
+    }
+
+    private static int intern(HashMap<String, Integer> table, ArrayList<String> strings, String string) {
+        Integer index = table.get(string);
+        if (index == null) {
+            index = strings.size();
+            table.put(string, index);
+            strings.add(string);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the count of nodes in this graph.
+     */
+    public int size() {
+        return files.length;
+    }
+
+    /**
+     * Returns the count of distinct strings held by this graph.
+     */
+    public int stringCount() {
+        return strings.length;
+    }
+
+    /**
+     * Returns the count of children of given node.
+     */
+    public int childCount(int node) {
+        return childOffsets[node + 1] - childOffsets[node];
+    }
+
+    /**
+     * Returns the index of n-th child of given node.
+     */
+    public int child(int node, int n) {
+        if (n < 0 || n >= childCount(node)) {
+            throw new IndexOutOfBoundsException("node " + node + " has no child " + n);
+        }
+        return children[childOffsets[node] + n];
+    }
+
+    /**
+     * Returns {@code true} if given node has artifact. Only root node may have no artifact.
+     */
+    public boolean hasArtifact(int node) {
+        return coordinates[node * FIELDS + GROUP_ID] != NONE;
+    }
+
+    public String getGroupId(int node) {
+        return string(node, GROUP_ID);
+    }
+
+    public String getArtifactId(int node) {
+        return string(node, ARTIFACT_ID);
+    }
+
+    public String getExtension(int node) {
+        return string(node, EXTENSION);
+    }
+
+    public String getClassifier(int node) {
+        return string(node, CLASSIFIER);
+    }
+
+    public String getVersion(int node) {
+        return string(node, VERSION);
+    }
+
+    /**
+     * Returns the scope of given node, or {@code null} if node has no dependency.
+     */
+    public String getScope(int node) {
+        return string(node, SCOPE);
+    }
+
+    public boolean isOptional(int node) {
+        return optional[node];
+    }
+
+    /**
+     * Returns the artifact file of given node, or {@code null} if node artifact was not resolved.
+     */
+    public File getFile(int node) {
+        return files[node];
+    }
+
+    private String string(int node, int field) {
+        int index = coordinates[node * FIELDS + field];
+        return index != NONE ? strings[index] : null;
+    }
+
+    /**
+     * Creates artifact of given node, or returns {@code null} if node has no artifact.
+     */
+    public Artifact getArtifact(int node) {
+        if (!hasArtifact(node)) {
+            return null;
+        }
+        return new DefaultArtifact(
+                        getGroupId(node),
+                        getArtifactId(node),
+                        getClassifier(node),
+                        getExtension(node),
+                        getVersion(node))
+                .setFile(getFile(node));
+    }
+
+    /**
+     * Returns the indexes of nodes having dependency, in graph preorder (each node once), that is the classpath order.
+     */
+    public int[] preorder() {
+        int[] result = new int[size()];
+        int count = 0;
+        for (int i = 0; i < size(); i++) {
+            // nodes are indexed in preorder
+            if (coordinates[i * FIELDS + SCOPE] != NONE) {
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Returns the class path of this graph, same as
+     * {@link org.eclipse.aether.util.graph.visitor.PreorderNodeListGenerator#getClassPath()} would return for the
+     * original graph.
+     */
+    public String getClassPath() {
+        StringBuilder classPath = new StringBuilder();
+        for (int node : preorder()) {
+            File file = files[node];
+            if (file != null) {
+                if (classPath.length() > 0) {
+                    classPath.append(File.pathSeparatorChar);
+                }
+                classPath.append(file.getAbsolutePath());
+            }
+        }
+        return classPath.toString();
+    }
+
+    /**
+     * Converts this graph back to {@link DependencyNode} graph, retaining its shape, and returns its root node.
+     */
+    public DependencyNode toDependencyNode() {
+        DefaultDependencyNode[] nodes = new DefaultDependencyNode[size()];
+        for (int i = 0; i < nodes.length; i++) {
+            Artifact artifact = getArtifact(i);
+            String scope = getScope(i);
+            nodes[i] = scope != null
+                    ? new DefaultDependencyNode(new Dependency(artifact, scope, optional[i]))
+                    : new DefaultDependencyNode(artifact);
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            ArrayList<DependencyNode> nodeChildren = new ArrayList<>(childCount(i));
+            for (int c = childOffsets[i]; c < childOffsets[i + 1]; c++) {
+                nodeChildren.add(nodes[children[c]]);
+            }
+            nodes[i].setChildren(nodeChildren);
+        }
+        return nodes[0];
+    }
+}
@@ -12,7 +12,9 @@ import static java.util.Objects.requireNonNull;
 import eu.maveniverse.maven.mima.context.internal.RuntimeSupport;
 import java.io.Closeable;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
@@ -60,6 +62,10 @@ public final class Context implements Closeable {
 
     private final Runnable managedCloser;
 
+    private final ArrayList<Runnable> closeHandlers;
+
+    private final StartupTimings startupTimings;
+
     public Context(
             RuntimeSupport runtime,
             ContextOverrides contextOverrides,
@@ -71,6 +77,37 @@ public final class Context implements Closeable {
             HTTPProxy httpProxy,
             Lookup lookup,
             Runnable managedCloser) {
+        this(
+                runtime,
+                contextOverrides,
+                basedir,
+                mavenUserHome,
+                mavenSystemHome,
+                repositorySystem,
+                repositorySystemSession,
+                httpProxy,
+                lookup,
+                managedCloser,
+                StartupTimings.EMPTY);
+    }
+
+    /**
+     * Creates context instance with startup timings.
+     *
+     * @since 2.4.47
+     */
+    public Context(
+            RuntimeSupport runtime,
+            ContextOverrides contextOverrides,
+            Path basedir,
+            MavenUserHome mavenUserHome,
+            MavenSystemHome mavenSystemHome,
+            RepositorySystem repositorySystem,
+            RepositorySystemSession repositorySystemSession,
+            HTTPProxy httpProxy,
+            Lookup lookup,
+            Runnable managedCloser,
+            StartupTimings startupTimings) {
         this.closed = new AtomicBoolean(false);
         this.runtime = requireNonNull(runtime);
         this.contextOverrides = requireNonNull(contextOverrides);
@@ -79,13 +116,20 @@ public final class Context implements Closeable {
         this.mavenSystemHome = mavenSystemHome;
         this.repositorySystemSession = requireNonNull(repositorySystemSession);
         this.repositorySystem = requireNonNull(repositorySystem);
-        this.remoteRepositories = contextOverrides.isKeepBareRepositories()
+        List<RemoteRepository> repositories = contextOverrides.isKeepBareRepositories()
                 ? contextOverrides.getRepositories()
                 : repositorySystem.newResolutionRepositories(
                         repositorySystemSession, contextOverrides.getRepositories());
+        this.remoteRepositories = contextOverrides.isWithInterning()
+                ? Interner.of(repositorySystemSession)
+                        .map(i -> i.repositories(repositories))
+                        .orElse(repositories)
+                : repositories;
         this.httpProxy = httpProxy;
         this.lookup = requireNonNull(lookup);
         this.managedCloser = managedCloser;
+        this.closeHandlers = new ArrayList<>();
+        this.startupTimings = requireNonNull(startupTimings);
     }
 
     /**
@@ -165,6 +209,36 @@ public final class Context implements Closeable {
         return lookup;
     }
 
+    /**
+     * Returns the durations of phases this context creation went through, never {@code null}. Derived contexts carry
+     * only the duration of customization.
+     *
+     * @since 2.4.47
+     */
+    public StartupTimings startupTimings() {
+        return startupTimings;
+    }
+
+    /**
+     * Returns the {@link ResolutionMetrics} collected by this context, if enabled by
+     * {@link ContextOverrides#isWithResolutionMetrics()}. Derived contexts share the metrics of their base context.
+     *
+     * @since 2.4.47
+     */
+    public Optional<ResolutionMetrics> resolutionMetrics() {
+        return Optional.ofNullable(
+                (ResolutionMetrics) repositorySystemSession.getData().get(ResolutionMetrics.class));
+    }
+
+    /**
+     * Returns the {@link Interner} of this context, if enabled by {@link ContextOverrides#isWithInterning()}.
+     *
+     * @since 2.4.47
+     */
+    public Optional<Interner> interner() {
+        return contextOverrides.isWithInterning() ? Interner.of(repositorySystemSession) : Optional.empty();
+    }
+
     /**
      * Returns a new {@link Context} instance, that is customized using passed in {@link ContextOverrides}, using this
      * instance as "base".
@@ -176,6 +250,54 @@ public final class Context implements Closeable {
         return runtime.customizeContext(overrides, this, false);
     }
 
+    /**
+     * Returns a new {@link ParallelResolver} instance, that resolves batches of requests concurrently using this
+     * context, with given parallelism. Returned instance should be closed once not needed anymore, and must not be used
+     * after this context is closed. Resolver uses virtual threads, if enabled by
+     * {@link ContextOverrides#isWithVirtualThreads()} and supported by Java runtime.
+     *
+     * @since 2.4.47
+     */
+    public ParallelResolver parallelResolver(int parallelism) {
+        if (closed.get()) {
+            throw new IllegalStateException("context is closed");
+        }
+        return new ParallelResolver(this, parallelism);
+    }
+
+    /**
+     * Returns a new {@link StreamingResolver} instance, that emits resolved dependencies incrementally using this
+     * context, resolving them with given parallelism. Returned instance should be closed once not needed anymore, and
+     * must not be used after this context is closed. Resolver uses virtual threads, if enabled by
+     * {@link ContextOverrides#isWithVirtualThreads()} and supported by Java runtime.
+     *
+     * @since 2.4.47
+     */
+    public StreamingResolver streamingResolver(int parallelism) {
+        if (closed.get()) {
+            throw new IllegalStateException("context is closed");
+        }
+        return new StreamingResolver(this, parallelism);
+    }
+
+    /**
+     * Registers a handler that is invoked when this context is closed. Handlers are invoked in reverse order of their
+     * registration, before the context itself is closed. Meant for extensions that keep resources bound to the
+     * lifecycle of this context instance. A failing handler does not prevent other handlers from being invoked, nor the
+     * context from being closed: the first failure is rethrown by {@link #close()}, with later ones suppressed.
+     *
+     * @since 2.4.47
+     */
+    public void addCloseHandler(Runnable closeHandler) {
+        requireNonNull(closeHandler, "closeHandler");
+        synchronized (closeHandlers) {
+            if (closed.get()) {
+                throw new IllegalStateException("context is closed");
+            }
+            closeHandlers.add(closeHandler);
+        }
+    }
+
     /**
      * Exposes {@link Runtime} instance used to create this context instance.
      */
@@ -189,10 +311,41 @@ public final class Context implements Closeable {
     @Override
     public void close() {
         if (closed.compareAndSet(false, true)) {
-            // in the future session may become closeable as well
-            // repositorySystemSession.close();
-            if (managedCloser != null) {
-                managedCloser.run();
+            ArrayList<Runnable> handlers;
+            synchronized (closeHandlers) {
+                handlers = new ArrayList<>(closeHandlers);
+                closeHandlers.clear();
+            }
+            RuntimeException failure = null;
+            try {
+                for (int i = handlers.size() - 1; i >= 0; i--) {
+                    try {
+                        handlers.get(i).run();
+                    } catch (RuntimeException e) {
+                        if (failure == null) {
+                            failure = e;
+                        } else {
+                            failure.addSuppressed(e);
+                        }
+                    }
+                }
+            } finally {
+                // in the future session may become closeable as well
+                // repositorySystemSession.close();
+                if (managedCloser != null) {
+                    try {
+                        managedCloser.run();
+                    } catch (RuntimeException e) {
+                        if (failure == null) {
+                            failure = e;
+                        } else {
+                            failure.addSuppressed(e);
+                        }
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
             }
         }
     }
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import org.eclipse.aether.RepositoryCache;
 import org.eclipse.aether.RepositoryListener;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
@@ -126,6 +127,18 @@ public final class ContextOverrides {
 
     private final Map<Class<?>, Map<String, Object>> staticExtensions;
 
+    private final StartupListener startupListener;
+
+    private final boolean withResolutionMetrics;
+
+    private final boolean withOverlayCustomization;
+
+    private final boolean withVirtualThreads;
+
+    private final RepositoryCache repositoryCache;
+
+    private final boolean withInterning;
+
     private ContextOverrides(
             final Path basedirOverride,
             final Map<String, String> systemProperties,
@@ -155,7 +168,13 @@ public final class ContextOverrides {
             final Path globalToolchainsXmlOverride,
             final Object effectiveSettings,
             final Object effectiveSettingsMixin,
-            final Map<Class<?>, Map<String, Object>> staticExtensions) {
+            final Map<Class<?>, Map<String, Object>> staticExtensions,
+            final StartupListener startupListener,
+            final boolean withResolutionMetrics,
+            final boolean withOverlayCustomization,
+            final boolean withVirtualThreads,
+            final RepositoryCache repositoryCache,
+            final boolean withInterning) {
 
         this.basedirOverride = basedirOverride;
         this.systemProperties = Collections.unmodifiableMap(systemProperties);
@@ -191,6 +210,12 @@ public final class ContextOverrides {
         this.effectiveSettingsMixin = effectiveSettingsMixin;
         this.staticExtensions =
                 staticExtensions == null ? Collections.emptyMap() : Collections.unmodifiableMap(staticExtensions);
+        this.startupListener = startupListener;
+        this.withResolutionMetrics = withResolutionMetrics;
+        this.withOverlayCustomization = withOverlayCustomization;
+        this.withVirtualThreads = withVirtualThreads;
+        this.repositoryCache = repositoryCache;
+        this.withInterning = withInterning;
     }
 
     /**
@@ -437,6 +462,65 @@ public final class ContextOverrides {
         return staticExtensions;
     }
 
+    /**
+     * Startup listener, {@code null} if none.
+     *
+     * @since 2.4.47
+     */
+    public StartupListener getStartupListener() {
+        return startupListener;
+    }
+
+    /**
+     * Returns {@code true} if resolution metrics are to be collected.
+     *
+     * @see Context#resolutionMetrics()
+     * @since 2.4.47
+     */
+    public boolean isWithResolutionMetrics() {
+        return withResolutionMetrics;
+    }
+
+    /**
+     * Returns {@code true} if contexts derived with these overrides should overlay the session of base context
+     * instead of copying it.
+     *
+     * @see Context#customize(ContextOverrides)
+     * @since 2.4.47
+     */
+    public boolean isWithOverlayCustomization() {
+        return withOverlayCustomization;
+    }
+
+    /**
+     * Returns {@code true} if executors created by MIMA should use virtual threads, when supported by Java runtime.
+     *
+     * @since 2.4.47
+     */
+    public boolean isWithVirtualThreads() {
+        return withVirtualThreads;
+    }
+
+    /**
+     * Returns the repository cache to use in created context sessions, or {@code null} if each session should get new
+     * cache.
+     *
+     * @since 2.4.47
+     */
+    public RepositoryCache getRepositoryCache() {
+        return repositoryCache;
+    }
+
+    /**
+     * Returns {@code true} if context should intern coordinates and repositories used by MIMA.
+     *
+     * @see Context#interner()
+     * @since 2.4.47
+     */
+    public boolean isWithInterning() {
+        return withInterning;
+    }
+
     /**
      * Creates {@link Builder} out of current instance.
      *
@@ -472,7 +556,13 @@ public final class ContextOverrides {
                 .withGlobalToolchainsXmlOverride(globalToolchainsXmlOverride)
                 .withEffectiveSettings(effectiveSettings)
                 .withEffectiveSettingsMixin(effectiveSettingsMixin)
-                .withStaticExtensions(staticExtensions);
+                .withStaticExtensions(staticExtensions)
+                .startupListener(startupListener)
+                .withResolutionMetrics(withResolutionMetrics)
+                .withOverlayCustomization(withOverlayCustomization)
+                .withVirtualThreads(withVirtualThreads)
+                .repositoryCache(repositoryCache)
+                .withInterning(withInterning);
     }
 
     @Override
@@ -512,7 +602,13 @@ public final class ContextOverrides {
                 && Objects.equals(globalToolchainsXmlOverride, that.globalToolchainsXmlOverride)
                 && Objects.equals(effectiveSettings, that.effectiveSettings)
                 && Objects.equals(effectiveSettingsMixin, that.effectiveSettingsMixin)
-                && Objects.equals(staticExtensions, that.staticExtensions);
+                && Objects.equals(staticExtensions, that.staticExtensions)
+                && Objects.equals(startupListener, that.startupListener)
+                && withResolutionMetrics == that.withResolutionMetrics
+                && withOverlayCustomization == that.withOverlayCustomization
+                && withVirtualThreads == that.withVirtualThreads
+                && Objects.equals(repositoryCache, that.repositoryCache)
+                && withInterning == that.withInterning;
     }
 
     @Override
@@ -546,7 +642,13 @@ public final class ContextOverrides {
                 globalToolchainsXmlOverride,
                 effectiveSettings,
                 effectiveSettingsMixin,
-                staticExtensions);
+                staticExtensions,
+                startupListener,
+                withResolutionMetrics,
+                withOverlayCustomization,
+                withVirtualThreads,
+                repositoryCache,
+                withInterning);
     }
 
     /**
@@ -618,6 +720,18 @@ public final class ContextOverrides {
 
         private Map<Class<?>, Map<String, Object>> staticExtensions = Collections.emptyMap();
 
+        private StartupListener startupListener = null;
+
+        private boolean withResolutionMetrics = false;
+
+        private boolean withOverlayCustomization = false;
+
+        private boolean withVirtualThreads = false;
+
+        private RepositoryCache repositoryCache = null;
+
+        private boolean withInterning = false;
+
         /**
          * Hide ctor, use {@link #create()} to create new builder instances.
          */
@@ -949,6 +1063,79 @@ public final class ContextOverrides {
             return this;
         }
 
+        /**
+         * Sets {@link StartupListener} instance to be notified about created contexts.
+         *
+         * @since 2.4.47
+         */
+        public Builder startupListener(StartupListener startupListener) {
+            this.startupListener = startupListener;
+            return this;
+        }
+
+        /**
+         * Enables collection of {@link ResolutionMetrics} for created context (default {@code false}).
+         *
+         * @see Context#resolutionMetrics()
+         * @since 2.4.47
+         */
+        public Builder withResolutionMetrics(boolean withResolutionMetrics) {
+            this.withResolutionMetrics = withResolutionMetrics;
+            return this;
+        }
+
+        /**
+         * Enables overlay customization (default {@code false}): the session of context derived with these overrides
+         * forwards all aspects not changed by overrides to the session of base context, instead of copying it.
+         * Sessions of such derived contexts are not {@link org.eclipse.aether.DefaultRepositorySystemSession}
+         * instances.
+         *
+         * @see Context#customize(ContextOverrides)
+         * @since 2.4.47
+         */
+        public Builder withOverlayCustomization(boolean withOverlayCustomization) {
+            this.withOverlayCustomization = withOverlayCustomization;
+            return this;
+        }
+
+        /**
+         * Makes executors created by MIMA, like the one of {@link Context#parallelResolver(int)}, use virtual threads
+         * (default {@code false}). Virtual threads are used only if Java runtime supports them (Java 21+), otherwise
+         * platform threads are used.
+         *
+         * @see eu.maveniverse.maven.mima.context.internal.ExecutorSupport#isVirtualThreadsSupported()
+         * @since 2.4.47
+         */
+        public Builder withVirtualThreads(boolean withVirtualThreads) {
+            this.withVirtualThreads = withVirtualThreads;
+            return this;
+        }
+
+        /**
+         * Sets the repository cache to use (instead of new cache per session), for example a
+         * {@link SharedRepositoryCache} instance shared among contexts. Derived contexts use this cache also when
+         * session is reset. Allows {@code null}, means "new cache per session" (default).
+         *
+         * @since 2.4.47
+         */
+        public Builder repositoryCache(RepositoryCache repositoryCache) {
+            this.repositoryCache = repositoryCache;
+            return this;
+        }
+
+        /**
+         * Makes context keep an {@link Interner}, that is used by MIMA to share equal coordinate strings, artifacts and
+         * remote repositories instead of allocating and retaining them over and over again (default {@code false}).
+         * Derived contexts sharing session data with base context share its interner as well.
+         *
+         * @see Context#interner()
+         * @since 2.4.47
+         */
+        public Builder withInterning(boolean withInterning) {
+            this.withInterning = withInterning;
+            return this;
+        }
+
         /**
          * Builds an immutable instance of {@link ContextOverrides} using so far applied settings and configuration.
          */
@@ -982,7 +1169,13 @@ public final class ContextOverrides {
                     globalToolchainsXmlOverride,
                     effectiveSettings,
                     effectiveSettingsMixin,
-                    staticExtensions);
+                    staticExtensions,
+                    startupListener,
+                    withResolutionMetrics,
+                    withOverlayCustomization,
+                    withVirtualThreads,
+                    repositoryCache,
+                    withInterning);
         }
     }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.RemoteRepository;
+
+/**
+ * Thread safe interner of coordinates and remote repositories, kept per context (in session data), when enabled by
+ * {@link ContextOverrides#isWithInterning()}. MIMA code paths use it to return canonical instances of equal strings,
+ * artifacts, remote repositories and lists of remote repositories, so long-lived contexts do not allocate and retain
+ * them over and over again. As all of these are immutable, sharing them is safe.
+ * <p>
+ * Interner is bounded: once it holds configured count of instances of a kind, it returns passed in (or newly created)
+ * instances uninterned.
+ *
+ * @see Context#interner()
+ * @since 2.4.47
+ */
+public final class Interner {
+    private static final int DEFAULT_MAX_ENTRIES = 100_000;
+
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Coordinates, Artifact> artifacts = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<RemoteRepository, RemoteRepository> repositories = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<List<RemoteRepository>, List<RemoteRepository>> repositoryLists =
+            new ConcurrentHashMap<>();
+
+    public Interner() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Creates interner holding at most {@code maxEntries} instances of each kind.
+     */
+    public Interner(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be greater than zero");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the interner kept in session data, if any.
+     */
+    public static Optional<Interner> of(RepositorySystemSession session) {
+        requireNonNull(session);
+        return Optional.ofNullable((Interner) session.getData().get(Interner.class));
+    }
+
+    /**
+     * Returns canonical instance of passed in string, or {@code null} if {@code null} passed in.
+     */
+    public String intern(String string) {
+        return string != null ? canonical(strings, string, string) : null;
+    }
+
+    /**
+     * Returns canonical artifact with given coordinates, without file and properties.
+     */
+    public Artifact artifact(String groupId, String artifactId, String classifier, String extension, String version) {
+        Coordinates coordinates = new Coordinates(groupId, artifactId, classifier, extension, version);
+        Artifact artifact = artifacts.get(coordinates);
+        if (artifact == null) {
+            artifact = canonical(
+                    artifacts,
+                    coordinates,
+                    new DefaultArtifact(
+                            intern(coordinates.groupId),
+                            intern(coordinates.artifactId),
+                            intern(coordinates.classifier),
+                            intern(coordinates.extension),
+                            intern(coordinates.version)));
+        }
+        return artifact;
+    }
+
+    /**
+     * Returns canonical instance of passed in remote repository.
+     */
+    public RemoteRepository repository(RemoteRepository repository) {
+        requireNonNull(repository);
+        return canonical(repositories, repository, repository);
+    }
+
+    /**
+     * Returns canonical unmodifiable list of canonical remote repositories, equal to passed in list. As returned list
+     * is a canonical instance, it can be retained (ie. used as map key) instead of a defensive copy of passed in list.
+     */
+    public List<RemoteRepository> repositories(List<RemoteRepository> list) {
+        requireNonNull(list);
+        List<RemoteRepository> result = repositoryLists.get(list);
+        if (result == null) {
+            ArrayList<RemoteRepository> copy = new ArrayList<>(list.size());
+            for (RemoteRepository repository : list) {
+                copy.add(repository(repository));
+            }
+            List<RemoteRepository> canonical = Collections.unmodifiableList(copy);
+            result = canonical(repositoryLists, canonical, canonical);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the count of interned instances (of all kinds).
+     */
+    public int size() {
+        return strings.size() + artifacts.size() + repositories.size() + repositoryLists.size();
+    }
+
+    private <K, V> V canonical(ConcurrentHashMap<K, V> map, K key, V value) {
+        V existing = map.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (map.size() >= maxEntries) {
+            return value;
+        }
+        existing = map.putIfAbsent(key, value);
+        return existing != null ? existing : value;
+    }
+
+    private static final class Coordinates {
+        private final String groupId;
+
+        private final String artifactId;
+
+        private final String classifier;
+
+        private final String extension;
+
+        private final String version;
+
+        private final int hashCode;
+
+        private Coordinates(String groupId, String artifactId, String classifier, String extension, String version) {
+            // same as artifact does
+            this.groupId = emptify(groupId);
+            this.artifactId = emptify(artifactId);
+            this.classifier = emptify(classifier);
+            this.extension = emptify(extension);
+            this.version = emptify(version);
+            // not using Objects.hash, to not allocate varargs array on each lookup
+            int hash = this.groupId.hashCode();
+            hash = 31 * hash + this.artifactId.hashCode();
+            hash = 31 * hash + this.classifier.hashCode();
+            hash = 31 * hash + this.extension.hashCode();
+            this.hashCode = 31 * hash + this.version.hashCode();
+        }
+
+        private static String emptify(String string) {
+            return string != null ? string : "";
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Coordinates that = (Coordinates) o;
+            return hashCode == that.hashCode
+                    && groupId.equals(that.groupId)
+                    && artifactId.equals(that.artifactId)
+                    && classifier.equals(that.classifier)
+                    && extension.equals(that.extension)
+                    && version.equals(that.version);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.context;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.mima.context.internal.ExecutorSupport;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.CollectResult;
+import org.eclipse.aether.collection.DependencyCollectionException;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.resolution.DependencyRequest;
+import org.eclipse.aether.resolution.DependencyResolutionException;
+import org.eclipse.aether.resolution.DependencyResult;
+
+/**
+ * Batch resolver that fans out many requests concurrently on a bounded executor, using the
+ * {@link RepositorySystemSession} of the {@link Context} it was created from (hence sharing session cache among
+ * requests). Batch methods never throw resolution exceptions: results are returned in same order as requests were
+ * passed in, and failures are reported in the results themselves (as resolver exceptions carry results).
+ * <p>
+ * Instances should be closed when no longer needed, to release the executor. Closing the resolver does not close the
+ * context.
+ *
+ * @see Context#parallelResolver(int)
+ * @since 2.4.47
+ */
+public final class ParallelResolver implements Closeable {
+    private final RepositorySystem repositorySystem;
+
+    private final RepositorySystemSession session;
+
+    private final ExecutorService executor;
+
+    ParallelResolver(Context context, int parallelism) {
+        requireNonNull(context);
+        this.repositorySystem = context.repositorySystem();
+        this.session = context.repositorySystemSession();
+        this.executor = ExecutorSupport.newBoundedExecutor(
+                "mima-resolver", parallelism, context.contextOverrides().isWithVirtualThreads());
+    }
+
+    /**
+     * Resolves artifacts concurrently. Failed resolutions are reported via {@link ArtifactResult#getExceptions()}.
+     */
+    public List<ArtifactResult> resolveArtifacts(Collection<ArtifactRequest> requests) {
+        requireNonNull(requests);
+        return invokeAll(requests, request -> () -> {
+            try {
+                return repositorySystem.resolveArtifact(session, request);
+            } catch (ArtifactResolutionException e) {
+                return e.getResult();
+            }
+        });
+    }
+
+    /**
+     * Collects dependencies concurrently. Failed collections are reported via {@link CollectResult#getExceptions()}.
+     */
+    public List<CollectResult> collectDependencies(Collection<CollectRequest> requests) {
+        requireNonNull(requests);
+        return invokeAll(requests, request -> () -> {
+            try {
+                return repositorySystem.collectDependencies(session, request);
+            } catch (DependencyCollectionException e) {
+                return e.getResult();
+            }
+        });
+    }
+
+    /**
+     * Resolves dependencies concurrently. Failed resolutions are reported via
+     * {@link DependencyResult#getCollectExceptions()} and artifact results of {@link DependencyResult}.
+     */
+    public List<DependencyResult> resolveDependencies(Collection<DependencyRequest> requests) {
+        requireNonNull(requests);
+        return invokeAll(requests, request -> () -> {
+            try {
+                return repositorySystem.resolveDependencies(session, request);
+            } catch (DependencyResolutionException e) {
+                return e.getResult();
+            }
+        });
+    }
+
+    private <Q, R> List<R> invokeAll(Collection<Q> requests, TaskFactory<Q, R> taskFactory) {
+        ArrayList<Future<R>> futures = new ArrayList<>(requests.size());
+        for (Q request : requests) {
+            futures.add(executor.submit(taskFactory.task(requireNonNull(request, "request"))));
+        }
+        ArrayList<R> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for results", e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Unexpected failure", e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Shuts down the executor of this resolver.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface TaskFactory<Q, R> {
+        Callable<R> task(Q request);
+    }
+}
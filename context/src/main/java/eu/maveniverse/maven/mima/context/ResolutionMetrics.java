@@ -0,0 +1,365 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.aether.AbstractRepositoryListener;
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RepositoryListener;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferListener;
+import org.eclipse.aether.transfer.TransferResource;
+
+/**
+ * Collector of resolution metrics of a {@link Context}: per remote repository transfer counts, transferred bytes,
+ * throughput and latency histogram, and local repository hits and misses. Instances are thread safe, and are fed
+ * by the {@link RepositoryListener} and {@link TransferListener} this class provides, that runtimes chain with user
+ * provided listeners when {@link ContextOverrides#isWithResolutionMetrics()} is enabled.
+ *
+ * @see Context#resolutionMetrics()
+ * @since 2.4.47
+ */
+public final class ResolutionMetrics {
+    /**
+     * Upper bounds (inclusive) of latency histogram buckets in milliseconds. Histograms have one more, last bucket,
+     * that counts all transfers exceeding the last bound.
+     */
+    private static final long[] LATENCY_BUCKETS = {10, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final ConcurrentHashMap<String, RepositoryCounters> repositories = new ConcurrentHashMap<>();
+
+    private final LongAdder localHits = new LongAdder();
+
+    private final LongAdder localMisses = new LongAdder();
+
+    private final RepositoryListener repositoryListener = new AbstractRepositoryListener() {
+        @Override
+        public void artifactResolved(RepositoryEvent event) {
+            local(event);
+        }
+
+        @Override
+        public void metadataResolved(RepositoryEvent event) {
+            local(event);
+        }
+    };
+
+    private final TransferListener transferListener = new AbstractTransferListener() {
+        @Override
+        public void transferInitiated(TransferEvent event) {
+            counters(event).requests.increment();
+        }
+
+        @Override
+        public void transferSucceeded(TransferEvent event) {
+            RepositoryCounters counters = counters(event);
+            counters.succeeded.increment();
+            counters.bytes.add(event.getTransferredBytes());
+            long latency = Math.max(
+                    0L, System.currentTimeMillis() - event.getResource().getTransferStartTime());
+            counters.millis.add(latency);
+            counters.histogram[bucket(latency)].increment();
+        }
+
+        @Override
+        public void transferFailed(TransferEvent event) {
+            counters(event).failed.increment();
+        }
+
+        @Override
+        public void transferCorrupted(TransferEvent event) {
+            counters(event).corrupted.increment();
+        }
+    };
+
+    /**
+     * Returns the repository listener feeding this instance.
+     */
+    public RepositoryListener getRepositoryListener() {
+        return repositoryListener;
+    }
+
+    /**
+     * Returns the transfer listener feeding this instance.
+     */
+    public TransferListener getTransferListener() {
+        return transferListener;
+    }
+
+    /**
+     * Returns immutable snapshot of current state of metrics.
+     */
+    public Snapshot snapshot() {
+        TreeMap<String, RepositoryMetrics> result = new TreeMap<>();
+        repositories.forEach((id, counters) -> result.put(id, counters.snapshot(id)));
+        return new Snapshot(localHits.sum(), localMisses.sum(), result);
+    }
+
+    private void local(RepositoryEvent event) {
+        // resolved from local or workspace repository is a hit; fetched from remote or not resolved at all is a miss
+        if (event.getException() == null
+                && event.getFile() != null
+                && !(event.getRepository() instanceof RemoteRepository)) {
+            localHits.increment();
+        } else {
+            localMisses.increment();
+        }
+    }
+
+    private RepositoryCounters counters(TransferEvent event) {
+        TransferResource resource = event.getResource();
+        return repositories.computeIfAbsent(resource.getRepositoryId(), k -> new RepositoryCounters());
+    }
+
+    private static int bucket(long latency) {
+        for (int i = 0; i < LATENCY_BUCKETS.length; i++) {
+            if (latency <= LATENCY_BUCKETS[i]) {
+                return i;
+            }
+        }
+        return LATENCY_BUCKETS.length;
+    }
+
+    private static final class RepositoryCounters {
+        private final LongAdder requests = new LongAdder();
+
+        private final LongAdder succeeded = new LongAdder();
+
+        private final LongAdder failed = new LongAdder();
+
+        private final LongAdder corrupted = new LongAdder();
+
+        private final LongAdder bytes = new LongAdder();
+
+        private final LongAdder millis = new LongAdder();
+
+        private final LongAdder[] histogram = new LongAdder[LATENCY_BUCKETS.length + 1];
+
+        private RepositoryCounters() {
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        private RepositoryMetrics snapshot(String repositoryId) {
+            LinkedHashMap<String, Long> latencies = new LinkedHashMap<>();
+            for (int i = 0; i < histogram.length; i++) {
+                latencies.put(i < LATENCY_BUCKETS.length ? "le" + LATENCY_BUCKETS[i] : "inf", histogram[i].sum());
+            }
+            return new RepositoryMetrics(
+                    repositoryId,
+                    requests.sum(),
+                    succeeded.sum(),
+                    failed.sum(),
+                    corrupted.sum(),
+                    bytes.sum(),
+                    millis.sum(),
+                    latencies);
+        }
+    }
+
+    /**
+     * Immutable snapshot of {@link ResolutionMetrics}.
+     */
+    public static final class Snapshot {
+        private final long localHits;
+
+        private final long localMisses;
+
+        private final Map<String, RepositoryMetrics> repositories;
+
+        private Snapshot(long localHits, long localMisses, Map<String, RepositoryMetrics> repositories) {
+            this.localHits = localHits;
+            this.localMisses = localMisses;
+            this.repositories = Collections.unmodifiableMap(repositories);
+        }
+
+        /**
+         * Returns the count of artifacts and metadata resolved from local (or workspace) repository.
+         */
+        public long getLocalHits() {
+            return localHits;
+        }
+
+        /**
+         * Returns the count of artifacts and metadata that were not present locally, and were fetched from remote
+         * repository or were not resolved at all.
+         */
+        public long getLocalMisses() {
+            return localMisses;
+        }
+
+        /**
+         * Returns the ratio of local hits against all resolutions, or {@code 0} if there were no resolutions.
+         */
+        public double getLocalHitRatio() {
+            long total = localHits + localMisses;
+            return total == 0 ? 0d : (double) localHits / total;
+        }
+
+        /**
+         * Returns the per remote repository metrics, keyed and sorted by repository ID.
+         */
+        public Map<String, RepositoryMetrics> getRepositories() {
+            return repositories;
+        }
+
+        /**
+         * Returns the metrics of given remote repository, or {@code null} if there was no transfer with it.
+         */
+        public RepositoryMetrics getRepository(String repositoryId) {
+            return repositories.get(requireNonNull(repositoryId));
+        }
+
+        /**
+         * Exports this snapshot as flat map of metric names and values, suitable for logging or for publishing to
+         * some monitoring system. Names of per repository metrics are prefixed with {@code repository.<id>.}.
+         */
+        public Map<String, Number> toMap() {
+            LinkedHashMap<String, Number> result = new LinkedHashMap<>();
+            result.put("local.hits", localHits);
+            result.put("local.misses", localMisses);
+            result.put("local.hitRatio", getLocalHitRatio());
+            for (RepositoryMetrics repository : repositories.values()) {
+                String prefix = "repository." + repository.getRepositoryId() + ".";
+                result.put(prefix + "requests", repository.getRequests());
+                result.put(prefix + "succeeded", repository.getSucceeded());
+                result.put(prefix + "failed", repository.getFailed());
+                result.put(prefix + "corrupted", repository.getCorrupted());
+                result.put(prefix + "bytes", repository.getBytes());
+                result.put(prefix + "millis", repository.getMillis());
+                result.put(prefix + "throughput", repository.getThroughput());
+                repository.getLatencies().forEach((bucket, count) -> result.put(prefix + "latency." + bucket, count));
+            }
+            return Collections.unmodifiableMap(result);
+        }
+
+        @Override
+        public String toString() {
+            return toMap().toString();
+        }
+    }
+
+    /**
+     * Immutable metrics of one remote repository.
+     */
+    public static final class RepositoryMetrics {
+        private final String repositoryId;
+
+        private final long requests;
+
+        private final long succeeded;
+
+        private final long failed;
+
+        private final long corrupted;
+
+        private final long bytes;
+
+        private final long millis;
+
+        private final Map<String, Long> latencies;
+
+        private RepositoryMetrics(
+                String repositoryId,
+                long requests,
+                long succeeded,
+                long failed,
+                long corrupted,
+                long bytes,
+                long millis,
+                Map<String, Long> latencies) {
+            this.repositoryId = repositoryId;
+            this.requests = requests;
+            this.succeeded = succeeded;
+            this.failed = failed;
+            this.corrupted = corrupted;
+            this.bytes = bytes;
+            this.millis = millis;
+            this.latencies = Collections.unmodifiableMap(latencies);
+        }
+
+        public String getRepositoryId() {
+            return repositoryId;
+        }
+
+        /**
+         * Returns the count of initiated transfers (requests).
+         */
+        public long getRequests() {
+            return requests;
+        }
+
+        /**
+         * Returns the count of succeeded transfers.
+         */
+        public long getSucceeded() {
+            return succeeded;
+        }
+
+        /**
+         * Returns the count of failed transfers, including those of not found resources.
+         */
+        public long getFailed() {
+            return failed;
+        }
+
+        /**
+         * Returns the count of transfers with checksum failures.
+         */
+        public long getCorrupted() {
+            return corrupted;
+        }
+
+        /**
+         * Returns the count of bytes transferred by succeeded transfers.
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Returns the summed up duration of succeeded transfers in milliseconds.
+         */
+        public long getMillis() {
+            return millis;
+        }
+
+        /**
+         * Returns the average throughput of succeeded transfers in bytes per second.
+         */
+        public long getThroughput() {
+            return millis == 0 ? bytes * 1000L : bytes * 1000L / millis;
+        }
+
+        /**
+         * Returns the latency histogram of succeeded transfers: ordered map of bucket names and transfer counts. Bucket
+         * name {@code leN} counts transfers that took at most N milliseconds (and more than previous bucket bound),
+         * while the last bucket {@code inf} counts all the rest.
+         */
+        public Map<String, Long> getLatencies() {
+            return latencies;
+        }
+
+        @Override
+        public String toString() {
+            return repositoryId + "{requests=" + requests + ", succeeded=" + succeeded + ", failed=" + failed
+                    + ", corrupted=" + corrupted + ", bytes=" + bytes + ", millis=" + millis + ", latencies="
+                    + latencies + "}";
+        }
+    }
+}
@@ -12,7 +12,10 @@ import static java.util.Objects.requireNonNull;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeSet;
 
 /**
@@ -20,9 +23,15 @@ import java.util.TreeSet;
  * obtain actual {@link Runtime} instance.
  */
 public final class Runtimes {
+    private static final Comparator<Runtime> PRIORITY = Comparator.comparing(Runtime::priority);
+
     public static final Runtimes INSTANCE = new Runtimes();
 
-    private final TreeSet<Runtime> runtimes = new TreeSet<>(Comparator.comparing(Runtime::priority));
+    /**
+     * Immutable snapshot of registered runtimes, replaced (copy on write) on each modification, so readers never
+     * need to lock.
+     */
+    private volatile Registered registered = Registered.EMPTY;
 
     private Runtimes() {}
 
@@ -30,29 +39,30 @@ public final class Runtimes {
      * Returns the {@link Runtime} instance with the highest priority out of all registered instances, never
      * {@code null}. The method should be used to obtains runtime instance to work with.
      */
-    public synchronized Runtime getRuntime() {
-        Runtime result = null;
-        if (!runtimes.isEmpty()) {
-            result = runtimes.first();
+    public Runtime getRuntime() {
+        Registered current = registered;
+        if (!current.runtimes.isEmpty()) {
+            return current.runtimes.first();
         }
-        if (result == null) {
+        return discoverRuntime();
+    }
+
+    private synchronized Runtime discoverRuntime() {
+        if (registered.runtimes.isEmpty()) {
             ServiceLoader<Runtime> loader = ServiceLoader.load(Runtime.class);
             loader.iterator().forEachRemaining(this::registerRuntime);
-            if (runtimes.isEmpty()) {
+            if (registered.runtimes.isEmpty()) {
                 throw new IllegalStateException("No Runtime implementation found on classpath");
             }
-            result = runtimes.first();
         }
-        return result;
+        return registered.runtimes.first();
     }
 
     /**
      * Returns an unmodifiable snapshot (copy) collection of all registered {@link Runtime} instances.
      */
-    public synchronized Collection<Runtime> getRuntimes() {
-        TreeSet<Runtime> result = new TreeSet<>(Comparator.comparing(Runtime::priority));
-        result.addAll(runtimes);
-        return Collections.unmodifiableSet(result);
+    public Collection<Runtime> getRuntimes() {
+        return registered.runtimes;
     }
 
     /**
@@ -61,8 +71,15 @@ public final class Runtimes {
      */
     public synchronized void registerRuntime(Runtime mimaRuntime) {
         requireNonNull(mimaRuntime);
-        if (runtimes.stream().map(Runtime::name).noneMatch(n -> n.equals(mimaRuntime.name()))) {
-            runtimes.add(mimaRuntime);
+        Registered current = registered;
+        if (!current.names.contains(mimaRuntime.name())) {
+            TreeSet<Runtime> runtimes = new TreeSet<>(PRIORITY);
+            runtimes.addAll(current.runtimes);
+            if (runtimes.add(mimaRuntime)) {
+                HashSet<String> names = new HashSet<>(current.names);
+                names.add(mimaRuntime.name());
+                registered = new Registered(runtimes, names);
+            }
         }
     }
 
@@ -70,6 +87,19 @@ public final class Runtimes {
      * Clears all registered instances.
      */
     public synchronized void resetRuntimes() {
-        runtimes.clear();
+        registered = Registered.EMPTY;
+    }
+
+    private static final class Registered {
+        private static final Registered EMPTY = new Registered(new TreeSet<>(PRIORITY), new HashSet<>());
+
+        private final SortedSet<Runtime> runtimes;
+
+        private final Set<String> names;
+
+        private Registered(TreeSet<Runtime> runtimes, HashSet<String> names) {
+            this.runtimes = Collections.unmodifiableSortedSet(runtimes);
+            this.names = Collections.unmodifiableSet(names);
+        }
     }
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.aether.DefaultRepositoryCache;
+import org.eclipse.aether.RepositoryCache;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.repository.LocalRepository;
+
+/**
+ * A thread safe {@link RepositoryCache} meant to be shared among contexts (ie. process wide), so that short-lived
+ * contexts can reuse results of version, version range and descriptor resolution done by each other. To use it, set
+ * same instance on all contexts using {@link ContextOverrides.Builder#repositoryCache(RepositoryCache)}.
+ * <p>
+ * Entries are scoped by local repository of the session using the cache, as cached results refer to local repository
+ * content, and by system and user properties of the session, as some cached results (ie. imported dependency
+ * management of Maven model builder) are interpolated and have profiles activated using them. Entries with {@link String} keys are not shared: Resolver components use them for state that is meant to
+ * live as long as the session does (ie. the pools of dependency collector, that are not keyed by remote repositories
+ * nor by offline mode), so these are kept in a per-session cache stored in session data, as if the session had its
+ * own cache. The size of shared cache is bounded, and least recently used entries are evicted when it is exceeded,
+ * while entries older than configured time to live are evicted on access.
+ *
+ * @since 2.4.47
+ */
+public final class SharedRepositoryCache implements RepositoryCache {
+    private static final String SESSION_CACHE_KEY = SharedRepositoryCache.class.getName() + "$Session";
+
+    private static final String SCOPE_KEY = SharedRepositoryCache.class.getName() + "$Scope";
+
+    private final int maxEntries;
+
+    private final long ttlNanos;
+
+    private final LinkedHashMap<ScopedKey, CachedValue> entries;
+
+    /**
+     * Creates a cache holding at most {@code maxEntries} entries, each for at most {@code ttl} duration.
+     */
+    public SharedRepositoryCache(int maxEntries, Duration ttl) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be greater than zero");
+        }
+        requireNonNull(ttl, "ttl");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<ScopedKey, CachedValue>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ScopedKey, CachedValue> eldest) {
+                return size() > SharedRepositoryCache.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public void put(RepositorySystemSession session, Object key, Object data) {
+        if (key instanceof String) {
+            RepositoryCache sessionCache = sessionCache(session);
+            if (sessionCache != null) {
+                sessionCache.put(session, key, data);
+            }
+            return;
+        }
+        ScopedKey scopedKey = new ScopedKey(scope(session), key);
+        CachedValue entry = new CachedValue(data, System.nanoTime() + ttlNanos);
+        synchronized (entries) {
+            entries.put(scopedKey, entry);
+        }
+    }
+
+    @Override
+    public Object get(RepositorySystemSession session, Object key) {
+        if (key instanceof String) {
+            RepositoryCache sessionCache = sessionCache(session);
+            return sessionCache != null ? sessionCache.get(session, key) : null;
+        }
+        ScopedKey scopedKey = new ScopedKey(scope(session), key);
+        synchronized (entries) {
+            CachedValue entry = entries.get(scopedKey);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt - System.nanoTime() < 0) {
+                entries.remove(scopedKey);
+                return null;
+            }
+            return entry.data;
+        }
+    }
+
+    /**
+     * Returns the count of shared cached entries, including the expired ones not yet evicted.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Evicts all expired entries.
+     */
+    public void evictExpired() {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Iterator<CachedValue> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().expiresAt - now < 0) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Evicts all entries.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private static RepositoryCache sessionCache(RepositorySystemSession session) {
+        SessionData data = session.getData();
+        return data != null
+                ? (RepositoryCache) data.computeIfAbsent(SESSION_CACHE_KEY, DefaultRepositoryCache::new)
+                : null;
+    }
+
+    /**
+     * Returns the scope of session, calculated once per session. As derived sessions may share session data, the
+     * calculated scope is reused only if it was calculated from same property maps.
+     */
+    private static Scope scope(RepositorySystemSession session) {
+        SessionData data = session.getData();
+        Object scope = data != null ? data.get(SCOPE_KEY) : null;
+        if (scope instanceof Scope && ((Scope) scope).isFor(session)) {
+            return (Scope) scope;
+        }
+        Scope result = new Scope(session);
+        if (data != null) {
+            data.set(SCOPE_KEY, result);
+        }
+        return result;
+    }
+
+    private static File localRepository(RepositorySystemSession session) {
+        LocalRepository localRepository = session.getLocalRepository();
+        return localRepository != null ? localRepository.getBasedir() : null;
+    }
+
+    private static final class Scope {
+        private final Map<String, String> systemPropertiesRef;
+
+        private final Map<String, String> userPropertiesRef;
+
+        private final List<Object> aspects;
+
+        private final int hashCode;
+
+        private Scope(RepositorySystemSession session) {
+            this.systemPropertiesRef = session.getSystemProperties();
+            this.userPropertiesRef = session.getUserProperties();
+            this.aspects = Arrays.asList(
+                    localRepository(session),
+                    systemPropertiesRef != null ? new HashMap<>(systemPropertiesRef) : null,
+                    userPropertiesRef != null ? new HashMap<>(userPropertiesRef) : null);
+            this.hashCode = aspects.hashCode();
+        }
+
+        private boolean isFor(RepositorySystemSession session) {
+            return systemPropertiesRef == session.getSystemProperties()
+                    && userPropertiesRef == session.getUserProperties()
+                    && Objects.equals(aspects.get(0), localRepository(session));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Scope that = (Scope) o;
+            return hashCode == that.hashCode && aspects.equals(that.aspects);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class ScopedKey {
+        private final Scope scope;
+
+        private final Object key;
+
+        private final int hashCode;
+
+        private ScopedKey(Scope scope, Object key) {
+            this.scope = scope;
+            this.key = requireNonNull(key, "key");
+            this.hashCode = Objects.hash(scope, key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ScopedKey that = (ScopedKey) o;
+            return hashCode == that.hashCode && key.equals(that.key) && scope.equals(that.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class CachedValue {
+        private final Object data;
+
+        private final long expiresAt;
+
+        private CachedValue(Object data, long expiresAt) {
+            this.data = data;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.context;
+
+/**
+ * Listener notified about created contexts, usable to publish {@link StartupTimings} to some metrics system.
+ *
+ * @see ContextOverrides.Builder#startupListener(StartupListener)
+ * @since 2.4.47
+ */
+@FunctionalInterface
+public interface StartupListener {
+    /**
+     * Invoked when a context is created, root or derived one. The passed in context is fully usable.
+     */
+    void contextCreated(Context context, StartupTimings timings);
+}
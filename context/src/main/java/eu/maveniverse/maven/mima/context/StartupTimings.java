@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.context;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Durations of the phases {@link Context} creation went through, in order of their execution. Phase names are runtime
+ * dependent, but standalone runtimes use names defined in this class.
+ *
+ * @see Context#startupTimings()
+ * @see StartupListener
+ * @since 2.4.47
+ */
+public final class StartupTimings {
+    /**
+     * Discovery of homes and merging of properties.
+     */
+    public static final String PRE_BOOT = "preBoot";
+
+    /**
+     * Runtime specific boot of Resolver components (ie. wiring or DI container startup).
+     */
+    public static final String BOOT = "boot";
+
+    /**
+     * Building of effective settings.
+     */
+    public static final String SETTINGS = "settings";
+
+    /**
+     * Activation of settings profiles.
+     */
+    public static final String PROFILES = "profiles";
+
+    /**
+     * Construction of {@link org.eclipse.aether.RepositorySystemSession}, excluding local repository manager.
+     */
+    public static final String SESSION = "session";
+
+    /**
+     * Creation of local repository manager.
+     */
+    public static final String LOCAL_REPOSITORY_MANAGER = "localRepositoryManager";
+
+    /**
+     * Customization of existing context.
+     */
+    public static final String CUSTOMIZE = "customize";
+
+    /**
+     * Timings without any phase.
+     */
+    public static final StartupTimings EMPTY = new StartupTimings(Collections.emptyMap());
+
+    private final Map<String, Duration> phases;
+
+    public StartupTimings(Map<String, Duration> phases) {
+        this.phases = Collections.unmodifiableMap(new LinkedHashMap<>(requireNonNull(phases)));
+    }
+
+    /**
+     * Returns the phase durations, in order of execution, never {@code null}.
+     */
+    public Map<String, Duration> getPhases() {
+        return phases;
+    }
+
+    /**
+     * Returns the duration of given phase, or {@link Duration#ZERO} if phase is not present.
+     */
+    public Duration getPhase(String phase) {
+        return phases.getOrDefault(phase, Duration.ZERO);
+    }
+
+    /**
+     * Returns the sum of all phase durations.
+     */
+    public Duration getTotal() {
+        return phases.values().stream().reduce(Duration.ZERO, Duration::plus);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb =
+                new StringBuilder("total=").append(getTotal().toMillis()).append("ms");
+        phases.forEach((phase, duration) -> sb.append(", ")
+                .append(phase)
+                .append('=')
+                .append(duration.toMillis())
+                .append("ms"));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.context;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.mima.context.internal.ExecutorSupport;
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.CollectResult;
+import org.eclipse.aether.collection.DependencyCollectionException;
+import org.eclipse.aether.graph.DependencyFilter;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.DependencyVisitor;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.resolution.DependencyRequest;
+import org.eclipse.aether.util.graph.visitor.FilteringDependencyVisitor;
+import org.eclipse.aether.util.graph.visitor.TreeDependencyVisitor;
+
+/**
+ * Streaming dependency resolver: instead of resolving all the artifacts of dependency graph and returning them at once
+ * (as {@link RepositorySystem#resolveDependencies(RepositorySystemSession, DependencyRequest)} does), it emits the
+ * graph nodes to a {@link Listener} one by one, as soon as their artifacts are resolved. Artifacts are resolved
+ * concurrently on a bounded executor, but nodes are emitted in graph preorder (the classpath order) on the calling
+ * thread, so listener does not have to be thread safe. Only a bounded window of resolved but not yet emitted results
+ * is kept, and no results are retained once emitted.
+ * <p>
+ * As conflict resolution needs the whole graph, dependency collection still completes before the first node is
+ * emitted; the gain is on artifact resolution (ie. downloads), that is usually the dominant part.
+ * <p>
+ * Instances should be closed when no longer needed, to release the executor. Closing the resolver does not close the
+ * context.
+ *
+ * @see Context#streamingResolver(int)
+ * @since 2.4.47
+ */
+public final class StreamingResolver implements Closeable {
+    /**
+     * Listener receiving the results of streaming resolution.
+     */
+    public interface Listener {
+        /**
+         * Invoked once, when dependency graph is collected, before any node is emitted.
+         */
+        default void collected(CollectResult result) {}
+
+        /**
+         * Invoked for each node of the graph that has dependency and is accepted by filter, in graph preorder, when its
+         * artifact is resolved. Failed resolutions are reported via {@link ArtifactResult#getExceptions()}.
+         */
+        void resolved(DependencyNode node, ArtifactResult result);
+    }
+
+    private final RepositorySystem repositorySystem;
+
+    private final RepositorySystemSession session;
+
+    private final ExecutorService executor;
+
+    private final int window;
+
+    StreamingResolver(Context context, int parallelism) {
+        requireNonNull(context);
+        this.repositorySystem = context.repositorySystem();
+        this.session = context.repositorySystemSession();
+        this.executor = ExecutorSupport.newBoundedExecutor(
+                "mima-streaming", parallelism, context.contextOverrides().isWithVirtualThreads());
+        this.window = parallelism * 2;
+    }
+
+    /**
+     * Resolves dependencies as specified by request, and emits them to listener. If request carries a root node, that
+     * graph is used, otherwise the graph is collected using the collect request of it.
+     *
+     * @throws DependencyCollectionException if dependency collection failed, in which case no node is emitted.
+     */
+    public void resolveDependencies(DependencyRequest request, Listener listener) throws DependencyCollectionException {
+        requireNonNull(request);
+        requireNonNull(listener);
+        DependencyNode root = request.getRoot();
+        if (root == null) {
+            CollectRequest collectRequest = requireNonNull(request.getCollectRequest(), "collectRequest");
+            CollectResult collectResult = repositorySystem.collectDependencies(session, collectRequest);
+            listener.collected(collectResult);
+            root = collectResult.getRoot();
+        }
+
+        Emitter emitter = new Emitter(listener);
+        DependencyFilter filter = request.getFilter();
+        try {
+            // filter goes inside of tree visitor, so nodes rejected by filter are also visited only once
+            root.accept(new TreeDependencyVisitor(
+                    filter != null ? new FilteringDependencyVisitor(emitter, filter) : emitter));
+            emitter.drain(0);
+        } finally {
+            emitter.cancel();
+        }
+    }
+
+    /**
+     * Shuts down the executor of this resolver.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Visits graph in preorder, submitting resolution of nodes as they are visited, and emitting the results in
+     * visit order, keeping at most window count of them in flight. Is meant to be wrapped by a
+     * {@link TreeDependencyVisitor}, that visits each node only once.
+     */
+    private final class Emitter implements DependencyVisitor {
+        private final Listener listener;
+
+        private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+
+        private Emitter(Listener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public boolean visitEnter(DependencyNode node) {
+            if (node.getDependency() != null) {
+                ArtifactRequest artifactRequest = new ArtifactRequest(node);
+                pending.add(new Pending(node, executor.submit(() -> {
+                    try {
+                        return repositorySystem.resolveArtifact(session, artifactRequest);
+                    } catch (ArtifactResolutionException e) {
+                        return e.getResults().get(0);
+                    }
+                })));
+                drain(window);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean visitLeave(DependencyNode node) {
+            return true;
+        }
+
+        private void drain(int keep) {
+            while (pending.size() > keep) {
+                Pending head = pending.poll();
+                listener.resolved(head.node, head.get());
+            }
+        }
+
+        private void cancel() {
+            pending.forEach(p -> p.future.cancel(true));
+            pending.clear();
+        }
+    }
+
+    private static final class Pending {
+        private final DependencyNode node;
+
+        private final Future<ArtifactResult> future;
+
+        private Pending(DependencyNode node, Future<ArtifactResult> future) {
+            this.node = node;
+            this.future = future;
+        }
+
+        private ArtifactResult get() {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for results", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException("Unexpected failure", e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.context.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executor helpers used by MIMA components that fan out work.
+ */
+public final class ExecutorSupport {
+    private static final Logger LOGGER = Logger.getLogger(ExecutorSupport.class.getName());
+
+    /**
+     * The {@code Thread.ofVirtual()} method, present on Java 21+ (preview on Java 19 and 20).
+     */
+    private static final Method OF_VIRTUAL;
+
+    /**
+     * The {@code Thread.Builder.name(String, long)} method.
+     */
+    private static final Method BUILDER_NAME;
+
+    /**
+     * The {@code Thread.Builder.factory()} method.
+     */
+    private static final Method BUILDER_FACTORY;
+
+    /**
+     * The {@code Executors.newThreadPerTaskExecutor(ThreadFactory)} method.
+     */
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builder.getMethod("name", String.class, long.class);
+            builderFactory = builder.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            // on Java 19 and 20 this fails unless preview features are enabled
+            ofVirtual.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private ExecutorSupport() {}
+
+    /**
+     * Returns {@code true} if Java runtime supports virtual threads.
+     *
+     * @since 2.4.47
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a bounded executor with given parallelism, using daemon threads named with passed in prefix. Idle threads
+     * are let to time out, so an unused executor does not hold on threads.
+     */
+    public static ExecutorService newBoundedExecutor(String name, int parallelism) {
+        return newBoundedExecutor(name, parallelism, false);
+    }
+
+    /**
+     * Creates a bounded executor with given parallelism, optionally using virtual threads, if supported by Java
+     * runtime. Virtual threads are not pooled: each task gets its own thread, and at most {@code parallelism} tasks
+     * run at once. If virtual threads are not requested or not supported, this method behaves as
+     * {@link #newBoundedExecutor(String, int)}.
+     *
+     * @since 2.4.47
+     */
+    public static ExecutorService newBoundedExecutor(String name, int parallelism, boolean virtualThreads) {
+        requireNonNull(name);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than zero");
+        }
+        if (virtualThreads) {
+            ExecutorService executor = virtualThreadPerTaskExecutor(name);
+            if (executor != null) {
+                return new SemaphoreExecutorService(executor, parallelism);
+            }
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                10L,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new DaemonThreadFactory(name));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Returns executor starting a new virtual thread for each task, naming threads with passed in prefix, or
+     * {@code null} if virtual threads are not supported. Virtual threads are always daemon threads.
+     */
+    private static ExecutorService virtualThreadPerTaskExecutor(String name) {
+        if (OF_VIRTUAL == null) {
+            return null;
+        }
+        try {
+            Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), name + "-", 1L);
+            ThreadFactory threadFactory = (ThreadFactory) BUILDER_FACTORY.invoke(builder);
+            return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.log(Level.FINE, "Cannot create virtual thread executor, falling back to platform threads", e);
+            return null;
+        }
+    }
+
+    /**
+     * Executor limiting the number of concurrently running tasks of an unbounded (thread per task) executor. Tasks
+     * wait for a permit on their own thread, so submitting never blocks.
+     */
+    private static final class SemaphoreExecutorService extends AbstractExecutorService {
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        private SemaphoreExecutorService(ExecutorService delegate, int parallelism) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(parallelism);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            requireNonNull(command);
+            delegate.execute(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    // executor was shut down while task was waiting: it will never run
+                    Thread.currentThread().interrupt();
+                    if (command instanceof Future) {
+                        ((Future<?>) command).cancel(false);
+                    }
+                    return;
+                }
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final String name;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        private DaemonThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
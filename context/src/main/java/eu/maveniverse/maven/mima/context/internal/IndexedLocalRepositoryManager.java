@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.context.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.metadata.Metadata;
+import org.eclipse.aether.repository.LocalArtifactRegistration;
+import org.eclipse.aether.repository.LocalArtifactRequest;
+import org.eclipse.aether.repository.LocalArtifactResult;
+import org.eclipse.aether.repository.LocalMetadataRegistration;
+import org.eclipse.aether.repository.LocalMetadataRequest;
+import org.eclipse.aether.repository.LocalMetadataResult;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.repository.RemoteRepository;
+
+/**
+ * A {@link LocalRepositoryManager} decorator that keeps in-memory index of files present in local repository. The
+ * index is built when first instance for a local repository is created, and is updated incrementally as artifacts and
+ * metadata are added to local repository (ie. installed or downloaded) via any instance. Lookups of files not present
+ * in index are answered without touching the filesystem, while results of lookups of present artifacts are cached (per
+ * instance) until the artifact is added again, saving filesystem stat calls and tracking file reads. Cached lookup
+ * results are bounded (LRU), and directories that could not be indexed (ie. are not readable) are not trusted: lookups
+ * of paths within them are delegated.
+ * <p>
+ * Indexes are process wide, keyed by local repository (path and layout) only, so instances created by different
+ * repository systems for same local repository share one index. A bounded count of most recently used indexes is kept.
+ * <p>
+ * Changes to local repository made by other means (ie. other processes) are not visible to this instance.
+ *
+ * @since 2.4.47
+ */
+final class IndexedLocalRepositoryManager implements LocalRepositoryManager {
+    private static final int DEFAULT_MAX_FOUND = 10_000;
+
+    private static final int MAX_INDEXES = 32;
+
+    private static final LinkedHashMap<LocalRepository, Index> INDEXES =
+            new LinkedHashMap<LocalRepository, Index>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<LocalRepository, Index> eldest) {
+                    return size() > MAX_INDEXES;
+                }
+            };
+
+    private final LocalRepositoryManager delegate;
+
+    private final Index index;
+
+    private final LinkedHashMap<String, ConcurrentHashMap<List<Object>, Found>> found;
+
+    IndexedLocalRepositoryManager(LocalRepositoryManager delegate) {
+        this(delegate, DEFAULT_MAX_FOUND);
+    }
+
+    IndexedLocalRepositoryManager(LocalRepositoryManager delegate, int maxFound) {
+        this.delegate = requireNonNull(delegate);
+        this.index = index(delegate.getRepository());
+        this.found = new LinkedHashMap<String, ConcurrentHashMap<List<Object>, Found>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ConcurrentHashMap<List<Object>, Found>> eldest) {
+                return size() > maxFound;
+            }
+        };
+    }
+
+    /**
+     * Returns shared index of given local repository, builds it if needed.
+     */
+    private static Index index(LocalRepository localRepository) {
+        synchronized (INDEXES) {
+            Index index = INDEXES.get(localRepository);
+            if (index != null) {
+                return index;
+            }
+        }
+        // build outside of lock; if raced, the first registered one wins
+        Index index = new Index(localRepository.getBasedir().toPath());
+        synchronized (INDEXES) {
+            Index existing = INDEXES.putIfAbsent(localRepository, index);
+            return existing != null ? existing : index;
+        }
+    }
+
+    @Override
+    public LocalRepository getRepository() {
+        return delegate.getRepository();
+    }
+
+    @Override
+    public String getPathForLocalArtifact(Artifact artifact) {
+        return delegate.getPathForLocalArtifact(artifact);
+    }
+
+    @Override
+    public String getPathForRemoteArtifact(Artifact artifact, RemoteRepository repository, String context) {
+        return delegate.getPathForRemoteArtifact(artifact, repository, context);
+    }
+
+    @Override
+    public String getPathForLocalMetadata(Metadata metadata) {
+        return delegate.getPathForLocalMetadata(metadata);
+    }
+
+    @Override
+    public String getPathForRemoteMetadata(Metadata metadata, RemoteRepository repository, String context) {
+        return delegate.getPathForRemoteMetadata(metadata, repository, context);
+    }
+
+    @Override
+    public LocalArtifactResult find(RepositorySystemSession session, LocalArtifactRequest request) {
+        Artifact artifact = request.getArtifact();
+        String path = getPathForLocalArtifact(artifact);
+        boolean present = index.mayBePresent(path);
+        if (!present) {
+            for (RemoteRepository repository : request.getRepositories()) {
+                if (index.mayBePresent(getPathForRemoteArtifact(artifact, repository, request.getContext()))) {
+                    present = true;
+                    break;
+                }
+            }
+        }
+        if (!present) {
+            return new LocalArtifactResult(request);
+        }
+
+        List<Object> key = Arrays.asList(artifact, request.getContext(), request.getRepositories());
+        ConcurrentHashMap<List<Object>, Found> results;
+        synchronized (found) {
+            results = found.computeIfAbsent(path, k -> new ConcurrentHashMap<>());
+        }
+        Found result = results.get(key);
+        if (result == null) {
+            result = new Found(delegate.find(session, request));
+            results.put(key, result);
+        }
+        return result.toResult(request);
+    }
+
+    @Override
+    public void add(RepositorySystemSession session, LocalArtifactRegistration request) {
+        delegate.add(session, request);
+        Artifact artifact = request.getArtifact();
+        String path = request.getRepository() == null
+                ? getPathForLocalArtifact(artifact)
+                : getPathForRemoteArtifact(artifact, request.getRepository(), "");
+        index.paths.add(path);
+        // the local path is the key of cached results (with split repository it differs from remote one)
+        synchronized (found) {
+            found.remove(getPathForLocalArtifact(artifact));
+        }
+    }
+
+    @Override
+    public LocalMetadataResult find(RepositorySystemSession session, LocalMetadataRequest request) {
+        Metadata metadata = request.getMetadata();
+        String path = request.getRepository() == null
+                ? getPathForLocalMetadata(metadata)
+                : getPathForRemoteMetadata(metadata, request.getRepository(), request.getContext());
+        if (!index.mayBePresent(path)) {
+            return new LocalMetadataResult(request);
+        }
+        return delegate.find(session, request);
+    }
+
+    @Override
+    public void add(RepositorySystemSession session, LocalMetadataRegistration request) {
+        delegate.add(session, request);
+        Metadata metadata = request.getMetadata();
+        index.paths.add(
+                request.getRepository() == null
+                        ? getPathForLocalMetadata(metadata)
+                        : getPathForRemoteMetadata(metadata, request.getRepository(), ""));
+    }
+
+    @Override
+    public String toString() {
+        return "Indexed(" + delegate + ")";
+    }
+
+    /**
+     * Index of files present in local repository.
+     */
+    private static final class Index {
+        private final Set<String> paths;
+
+        /**
+         * Prefixes (with trailing slash) of directories that could not be indexed.
+         */
+        private final Set<String> unindexed;
+
+        private Index(Path basedir) {
+            this.paths = ConcurrentHashMap.newKeySet();
+            this.unindexed = ConcurrentHashMap.newKeySet();
+            if (!Files.isDirectory(basedir)) {
+                return;
+            }
+            try {
+                Files.walkFileTree(basedir, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        if (attrs.isRegularFile()) {
+                            paths.add(relativize(basedir, file));
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                        unindexed.add(relativize(basedir, file) + "/");
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+                        if (exc != null) {
+                            unindexed.add(relativize(basedir, dir) + "/");
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (IOException e) {
+                // not reachable, as visitor does not throw; trust nothing
+                unindexed.add("");
+            }
+        }
+
+        private static String relativize(Path basedir, Path path) {
+            return basedir.relativize(path).toString().replace(File.separatorChar, '/');
+        }
+
+        /**
+         * Returns {@code true} if given path may be present in local repository: it is in index, or is within a
+         * directory that could not be indexed.
+         */
+        private boolean mayBePresent(String path) {
+            if (paths.contains(path)) {
+                return true;
+            }
+            if (!unindexed.isEmpty()) {
+                for (String prefix : unindexed) {
+                    if (path.startsWith(prefix)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Immutable copy of delegate lookup result.
+     */
+    private static final class Found {
+        private final File file;
+
+        private final boolean available;
+
+        private final RemoteRepository repository;
+
+        private Found(LocalArtifactResult result) {
+            this.file = result.getFile();
+            this.available = result.isAvailable();
+            this.repository = result.getRepository();
+        }
+
+        private LocalArtifactResult toResult(LocalArtifactRequest request) {
+            return new LocalArtifactResult(request)
+                    .setFile(file)
+                    .setAvailable(available)
+                    .setRepository(repository);
+        }
+    }
+}
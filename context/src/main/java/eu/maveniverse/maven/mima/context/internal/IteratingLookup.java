@@ -11,26 +11,70 @@ import static java.util.Objects.requireNonNull;
 
 import eu.maveniverse.maven.mima.context.Lookup;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * A {@link Lookup} implementation that is able to iterate through several lookups, applying "first deliver wins"
- * strategy.
+ * strategy. Optionally, results (including absent ones) may be cached per (type, name) pair, making repeated lookups
+ * a single hash probe; this is applicable only if iterated lookups always deliver same results for same input.
  *
  * @since 2.4.10
  */
 public final class IteratingLookup implements Lookup {
     private final Collection<Lookup> lookups;
 
+    private final ConcurrentHashMap<Key, Optional<?>> cache;
+
     public IteratingLookup(Lookup... lookups) {
         this(Arrays.asList(lookups));
     }
 
     public IteratingLookup(Collection<Lookup> lookups) {
+        this(lookups, false);
+    }
+
+    /**
+     * Creates iterating lookup, that caches results if {@code cached} is {@code true}.
+     *
+     * @since 2.4.47
+     */
+    public IteratingLookup(Collection<Lookup> lookups, boolean cached) {
         this.lookups = requireNonNull(lookups);
+        this.cache = cached ? new ConcurrentHashMap<>() : null;
     }
 
     @Override
     public <T> Optional<T> lookup(Class<T> type) {
+        if (cache != null) {
+            return cached(new Key(type, null), () -> iterate(type));
+        }
+        return iterate(type);
+    }
+
+    @Override
+    public <T> Optional<T> lookup(Class<T> type, String name) {
+        if (cache != null) {
+            return cached(new Key(type, name), () -> iterate(type, name));
+        }
+        return iterate(type, name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> cached(Key key, Supplier<Optional<T>> supplier) {
+        Optional<?> result = cache.get(key);
+        if (result == null) {
+            // not computeIfAbsent: iterated lookups may recurse into this lookup
+            result = supplier.get();
+            Optional<?> existing = cache.putIfAbsent(key, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return (Optional<T>) result;
+    }
+
+    private <T> Optional<T> iterate(Class<T> type) {
         for (Lookup lookup : lookups) {
             Optional<T> result = lookup.lookup(type);
             if (result.isPresent()) {
@@ -40,8 +84,7 @@ public final class IteratingLookup implements Lookup {
         return Optional.empty();
     }
 
-    @Override
-    public <T> Optional<T> lookup(Class<T> type, String name) {
+    private <T> Optional<T> iterate(Class<T> type, String name) {
         for (Lookup lookup : lookups) {
             Optional<T> result = lookup.lookup(type, name);
             if (result.isPresent()) {
@@ -50,4 +93,35 @@ public final class IteratingLookup implements Lookup {
         }
         return Optional.empty();
     }
+
+    private static final class Key {
+        private final Class<?> type;
+
+        private final String name;
+
+        private final int hashCode;
+
+        private Key(Class<?> type, String name) {
+            this.type = requireNonNull(type);
+            this.name = name;
+            this.hashCode = Objects.hash(type, name);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return type == key.type && Objects.equals(name, key.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -37,6 +37,11 @@ public final class MavenSystemHomeImpl implements MavenSystemHome {
 
     @Override
     public MavenSystemHomeImpl derive(ContextOverrides contextOverrides) {
+        if (unchanged(contextOverrides.getMavenSystemHomeOverride(), mavenSystemHome)
+                && unchanged(contextOverrides.getGlobalSettingsXmlOverride(), settingsXmlOverride)
+                && unchanged(contextOverrides.getGlobalToolchainsXmlOverride(), toolchainsXmlOverride)) {
+            return this; // immutable, nothing to derive
+        }
         return new MavenSystemHomeImpl(
                 contextOverrides.getMavenSystemHomeOverride() != null
                         ? contextOverrides.getMavenSystemHomeOverride()
@@ -49,6 +54,10 @@ public final class MavenSystemHomeImpl implements MavenSystemHome {
                         : toolchainsXmlOverride);
     }
 
+    private static boolean unchanged(Path override, Path current) {
+        return override == null || override.equals(current);
+    }
+
     @Override
     public Path basedir() {
         return mavenSystemHome;
@@ -56,6 +56,13 @@ public final class MavenUserHomeImpl implements MavenUserHome {
 
     @Override
     public MavenUserHomeImpl derive(ContextOverrides contextOverrides) {
+        if (unchanged(contextOverrides.getMavenUserHomeOverride(), mavenUserHome)
+                && unchanged(contextOverrides.getUserSettingsXmlOverride(), settingsXmlOverride)
+                && unchanged(contextOverrides.getUserSettingsSecurityXmlOverride(), settingsSecurityXmlOverride)
+                && unchanged(contextOverrides.getUserToolchainsXmlOverride(), toolchainsXmlOverride)
+                && unchanged(contextOverrides.getLocalRepositoryOverride(), localRepositoryOverride)) {
+            return this; // immutable, nothing to derive
+        }
         return new MavenUserHomeImpl(
                 contextOverrides.getMavenUserHomeOverride() != null
                         ? contextOverrides.getMavenUserHomeOverride()
@@ -74,6 +81,10 @@ public final class MavenUserHomeImpl implements MavenUserHome {
                         : localRepositoryOverride);
     }
 
+    private static boolean unchanged(Path override, Path current) {
+        return override == null || override.equals(current);
+    }
+
     @Override
     public Path basedir() {
         return mavenUserHome;
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.context.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import org.eclipse.aether.AbstractForwardingRepositorySystemSession;
+import org.eclipse.aether.RepositoryCache;
+import org.eclipse.aether.RepositoryListener;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.eclipse.aether.resolution.ArtifactDescriptorPolicy;
+import org.eclipse.aether.transfer.TransferListener;
+
+/**
+ * A read-only {@link RepositorySystemSession} that overlays base session: it holds only the aspects that were
+ * customized, and forwards everything else to the base session by reference. Used by derived contexts in overlay
+ * mode, to not copy whole session on each customization.
+ *
+ * @since 2.4.47
+ */
+final class OverlayRepositorySystemSession extends AbstractForwardingRepositorySystemSession {
+    private final RepositorySystemSession session;
+
+    private Boolean offline;
+
+    private Boolean ignoreArtifactDescriptorRepositories;
+
+    private ArtifactDescriptorPolicy artifactDescriptorPolicy;
+
+    private String checksumPolicy;
+
+    private String updatePolicy;
+
+    private LocalRepositoryManager localRepositoryManager;
+
+    private RepositoryListener repositoryListener;
+
+    private TransferListener transferListener;
+
+    private Map<String, String> systemProperties;
+
+    private Map<String, String> userProperties;
+
+    private Map<String, Object> configProperties;
+
+    private SessionData data;
+
+    private RepositoryCache cache;
+
+    OverlayRepositorySystemSession(RepositorySystemSession session) {
+        this.session = requireNonNull(session);
+    }
+
+    @Override
+    protected RepositorySystemSession getSession() {
+        return session;
+    }
+
+    void setOffline(boolean offline) {
+        this.offline = offline;
+    }
+
+    void setIgnoreArtifactDescriptorRepositories(boolean ignoreArtifactDescriptorRepositories) {
+        this.ignoreArtifactDescriptorRepositories = ignoreArtifactDescriptorRepositories;
+    }
+
+    void setArtifactDescriptorPolicy(ArtifactDescriptorPolicy artifactDescriptorPolicy) {
+        this.artifactDescriptorPolicy = artifactDescriptorPolicy;
+    }
+
+    void setChecksumPolicy(String checksumPolicy) {
+        this.checksumPolicy = checksumPolicy;
+    }
+
+    void setUpdatePolicy(String updatePolicy) {
+        this.updatePolicy = updatePolicy;
+    }
+
+    void setLocalRepositoryManager(LocalRepositoryManager localRepositoryManager) {
+        this.localRepositoryManager = localRepositoryManager;
+    }
+
+    void setRepositoryListener(RepositoryListener repositoryListener) {
+        this.repositoryListener = repositoryListener;
+    }
+
+    void setTransferListener(TransferListener transferListener) {
+        this.transferListener = transferListener;
+    }
+
+    void setSystemProperties(Map<String, String> systemProperties) {
+        this.systemProperties = systemProperties;
+    }
+
+    void setUserProperties(Map<String, String> userProperties) {
+        this.userProperties = userProperties;
+    }
+
+    void setConfigProperties(Map<String, Object> configProperties) {
+        this.configProperties = configProperties;
+    }
+
+    void setData(SessionData data) {
+        this.data = data;
+    }
+
+    void setCache(RepositoryCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public boolean isOffline() {
+        return offline != null ? offline : super.isOffline();
+    }
+
+    @Override
+    public boolean isIgnoreArtifactDescriptorRepositories() {
+        return ignoreArtifactDescriptorRepositories != null
+                ? ignoreArtifactDescriptorRepositories
+                : super.isIgnoreArtifactDescriptorRepositories();
+    }
+
+    @Override
+    public ArtifactDescriptorPolicy getArtifactDescriptorPolicy() {
+        return artifactDescriptorPolicy != null ? artifactDescriptorPolicy : super.getArtifactDescriptorPolicy();
+    }
+
+    @Override
+    public String getChecksumPolicy() {
+        return checksumPolicy != null ? checksumPolicy : super.getChecksumPolicy();
+    }
+
+    @Override
+    public String getUpdatePolicy() {
+        return updatePolicy != null ? updatePolicy : super.getUpdatePolicy();
+    }
+
+    @Override
+    public LocalRepository getLocalRepository() {
+        return localRepositoryManager != null ? localRepositoryManager.getRepository() : super.getLocalRepository();
+    }
+
+    @Override
+    public LocalRepositoryManager getLocalRepositoryManager() {
+        return localRepositoryManager != null ? localRepositoryManager : super.getLocalRepositoryManager();
+    }
+
+    @Override
+    public RepositoryListener getRepositoryListener() {
+        return repositoryListener != null ? repositoryListener : super.getRepositoryListener();
+    }
+
+    @Override
+    public TransferListener getTransferListener() {
+        return transferListener != null ? transferListener : super.getTransferListener();
+    }
+
+    @Override
+    public Map<String, String> getSystemProperties() {
+        return systemProperties != null ? systemProperties : super.getSystemProperties();
+    }
+
+    @Override
+    public Map<String, String> getUserProperties() {
+        return userProperties != null ? userProperties : super.getUserProperties();
+    }
+
+    @Override
+    public Map<String, Object> getConfigProperties() {
+        return configProperties != null ? configProperties : super.getConfigProperties();
+    }
+
+    @Override
+    public SessionData getData() {
+        return data != null ? data : super.getData();
+    }
+
+    @Override
+    public RepositoryCache getCache() {
+        return cache != null ? cache : super.getCache();
+    }
+}
@@ -13,7 +13,11 @@ import static java.util.stream.Collectors.toMap;
 
 import eu.maveniverse.maven.mima.context.Context;
 import eu.maveniverse.maven.mima.context.ContextOverrides;
+import eu.maveniverse.maven.mima.context.Interner;
+import eu.maveniverse.maven.mima.context.ResolutionMetrics;
 import eu.maveniverse.maven.mima.context.Runtime;
+import eu.maveniverse.maven.mima.context.StartupListener;
+import eu.maveniverse.maven.mima.context.StartupTimings;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
@@ -26,15 +30,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.function.Consumer;
 import org.eclipse.aether.DefaultRepositoryCache;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.RepositoryCache;
+import org.eclipse.aether.RepositoryListener;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.LocalRepository;
 import org.eclipse.aether.repository.LocalRepositoryManager;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.transfer.TransferListener;
 import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.listener.ChainedRepositoryListener;
+import org.eclipse.aether.util.listener.ChainedTransferListener;
 import org.eclipse.aether.util.repository.ChainedLocalRepositoryManager;
 
 /**
@@ -45,6 +56,30 @@ public abstract class RuntimeSupport implements Runtime {
 
     private static final String MAVEN_REPO_LOCAL_TAIL_IGNORE_AVAILABILITY = "maven.repo.local.tail.ignoreAvailability";
 
+    /**
+     * Configuration key to make contexts share {@link LocalRepositoryManager} instances (default {@code false}).
+     * Contexts using same {@link RepositorySystem} (ie. derived, pooled or shared ones) and same local repository
+     * (and tail) with same configuration affecting local repository manager will then use same instances, instead of
+     * creating new ones.
+     *
+     * @since 2.4.47
+     */
+    public static final String CONFIG_PROP_SHARED_LOCAL_REPOSITORY_MANAGER = "mima.localRepositoryManager.shared";
+
+    /**
+     * Configuration key to make local repository managers (of local repository and of tail) keep an in-memory index
+     * of files present in local repository (default {@code false}). The index is built when manager is created, and
+     * is updated as artifacts and metadata are installed or downloaded, making lookups mostly hash lookups, which is
+     * beneficial especially for offline resolution. Changes done to local repository by other processes are not
+     * visible to the index. Indexes are process wide, keyed by local repository path and layout only, so the local
+     * repository is walked once, even by contexts using different repository systems. This key must be combined with
+     * {@link #CONFIG_PROP_SHARED_LOCAL_REPOSITORY_MANAGER}: if set without it, context creation fails, and runtimes
+     * building contexts from scratch throw {@link IllegalStateException} caused by {@link IllegalArgumentException}.
+     *
+     * @since 2.4.47
+     */
+    public static final String CONFIG_PROP_INDEXED_LOCAL_REPOSITORY_MANAGER = "mima.localRepositoryManager.indexed";
+
     public static final Path DEFAULT_BASEDIR =
             Paths.get(System.getProperty("user.dir")).toAbsolutePath();
 
@@ -105,10 +140,17 @@ public abstract class RuntimeSupport implements Runtime {
 
     protected Context customizeContext(
             RuntimeSupport runtime, ContextOverrides overrides, Context context, boolean reset) {
+        if (overrides.isWithOverlayCustomization()) {
+            return overlayContext(runtime, overrides, context, reset);
+        }
+        StartupRecorder recorder = new StartupRecorder();
+        long start = recorder.start();
         DefaultRepositorySystemSession session = new DefaultRepositorySystemSession(context.repositorySystemSession());
         if (reset) {
-            session.setCache(new DefaultRepositoryCache());
+            session.setCache(newRepositoryCache(overrides));
             session.setData(new DefaultSessionData());
+        } else if (overrides.getRepositoryCache() != null) {
+            session.setCache(overrides.getRepositoryCache());
         }
 
         if (managedRepositorySystem()) {
@@ -131,20 +173,86 @@ public abstract class RuntimeSupport implements Runtime {
 
         // settings are used only in creation, not customization
 
-        if (overrides.getTransferListener() != null) {
-            session.setTransferListener(overrides.getTransferListener());
+        customizeListeners(
+                overrides,
+                session,
+                overrides.isWithResolutionMetrics()
+                        ? context.resolutionMetrics().orElse(null)
+                        : null);
+
+        customizeInterner(overrides, session);
+
+        session.setReadOnly();
+
+        return derivedContext(runtime, overrides, context, session, recorder, start);
+    }
+
+    /**
+     * Overlay variant of customization: the session of derived context holds only changed aspects, and shares
+     * everything else with the session of base context by reference.
+     */
+    private Context overlayContext(RuntimeSupport runtime, ContextOverrides overrides, Context context, boolean reset) {
+        StartupRecorder recorder = new StartupRecorder();
+        long start = recorder.start();
+        OverlayRepositorySystemSession session = new OverlayRepositorySystemSession(context.repositorySystemSession());
+        if (reset) {
+            session.setCache(newRepositoryCache(overrides));
+            session.setData(new DefaultSessionData());
+        } else if (overrides.getRepositoryCache() != null) {
+            session.setCache(overrides.getRepositoryCache());
+        }
+
+        if (managedRepositorySystem()) {
+            // overrides hold unmodifiable maps: no need to copy them
+            session.setSystemProperties(overrides.getSystemProperties());
+            session.setUserProperties(overrides.getUserProperties());
+            session.setConfigProperties(overrides.getConfigProperties());
         }
-        if (overrides.getRepositoryListener() != null) {
-            session.setRepositoryListener(overrides.getRepositoryListener());
+
+        overrides.isOffline().ifPresent(session::setOffline);
+
+        overrides.isIgnoreArtifactDescriptorRepositories().ifPresent(session::setIgnoreArtifactDescriptorRepositories);
+
+        Path localRepoPath = context.mavenUserHome().localRepository();
+        if (!localRepoPath.equals(session.getLocalRepository().getBasedir().toPath())) {
+            session.setLocalRepositoryManager(
+                    createLocalRepositoryManager(localRepoPath, context.repositorySystem(), session));
         }
 
-        session.setReadOnly();
+        session.setChecksumPolicy(checksumPolicy(overrides));
+
+        session.setArtifactDescriptorPolicy(overrides.getArtifactDescriptorPolicy());
+
+        session.setUpdatePolicy(snapshotUpdatePolicy(overrides));
+
+        customizeListeners(
+                overrides,
+                session,
+                overrides.isWithResolutionMetrics()
+                        ? context.resolutionMetrics().orElse(null)
+                        : null,
+                session::setTransferListener,
+                session::setRepositoryListener);
+
+        customizeInterner(overrides, session);
+
+        return derivedContext(runtime, overrides, context, session, recorder, start);
+    }
 
-        overrides = overrides.toBuilder()
-                .repositories(customizeRemoteRepositories(overrides, context.remoteRepositories()))
-                .build();
+    private Context derivedContext(
+            RuntimeSupport runtime,
+            ContextOverrides overrides,
+            Context context,
+            RepositorySystemSession session,
+            StartupRecorder recorder,
+            long start) {
+        List<RemoteRepository> repositories = customizeRemoteRepositories(overrides, context.remoteRepositories());
+        if (!repositories.equals(overrides.getRepositories())) {
+            overrides = overrides.toBuilder().repositories(repositories).build();
+        }
 
-        return new Context(
+        recorder.record(StartupTimings.CUSTOMIZE, start);
+        return contextCreated(new Context(
                 runtime,
                 overrides,
                 overrides.getBasedirOverride() != null ? overrides.getBasedirOverride() : context.basedir(),
@@ -156,7 +264,88 @@ public abstract class RuntimeSupport implements Runtime {
                 session,
                 context.httpProxy(),
                 context.lookup(),
-                null); // derived context: close should NOT shut down repositorySystem
+                null, // derived context: close should NOT shut down repositorySystem
+                recorder.build()));
+    }
+
+    /**
+     * Notifies {@link StartupListener}, if any set, about created context, and returns the passed in context.
+     *
+     * @since 2.4.47
+     */
+    protected Context contextCreated(Context context) {
+        StartupListener startupListener = context.contextOverrides().getStartupListener();
+        if (startupListener != null) {
+            startupListener.contextCreated(context, context.startupTimings());
+        }
+        return context;
+    }
+
+    /**
+     * Sets listeners from overrides, if any, on session. If {@link ContextOverrides#isWithResolutionMetrics()} is
+     * enabled, the passed in (inherited) metrics instance, or if {@code null} a new one, is stored in session data,
+     * and its listeners are chained with the listeners set on session.
+     *
+     * @since 2.4.47
+     */
+    protected void customizeListeners(
+            ContextOverrides overrides, DefaultRepositorySystemSession session, ResolutionMetrics metrics) {
+        customizeListeners(overrides, session, metrics, session::setTransferListener, session::setRepositoryListener);
+    }
+
+    private void customizeListeners(
+            ContextOverrides overrides,
+            RepositorySystemSession session,
+            ResolutionMetrics metrics,
+            Consumer<TransferListener> transferListenerSetter,
+            Consumer<RepositoryListener> repositoryListenerSetter) {
+        TransferListener transferListener = overrides.getTransferListener();
+        RepositoryListener repositoryListener = overrides.getRepositoryListener();
+        if (overrides.isWithResolutionMetrics()) {
+            // inherited metrics are already chained in session listeners, unless those are replaced
+            boolean chain = metrics == null;
+            if (metrics == null) {
+                metrics = new ResolutionMetrics();
+            }
+            if (chain || transferListener != null) {
+                transferListener = ChainedTransferListener.newInstance(
+                        transferListener != null ? transferListener : session.getTransferListener(),
+                        metrics.getTransferListener());
+            }
+            if (chain || repositoryListener != null) {
+                repositoryListener = ChainedRepositoryListener.newInstance(
+                        repositoryListener != null ? repositoryListener : session.getRepositoryListener(),
+                        metrics.getRepositoryListener());
+            }
+            session.getData().set(ResolutionMetrics.class, metrics);
+        }
+        if (transferListener != null) {
+            transferListenerSetter.accept(transferListener);
+        }
+        if (repositoryListener != null) {
+            repositoryListenerSetter.accept(repositoryListener);
+        }
+    }
+
+    /**
+     * Stores new {@link Interner} in session data, if {@link ContextOverrides#isWithInterning()} is enabled and session
+     * data does not hold one already (ie. inherited from base context).
+     *
+     * @since 2.4.47
+     */
+    protected void customizeInterner(ContextOverrides overrides, RepositorySystemSession session) {
+        if (overrides.isWithInterning()) {
+            session.getData().computeIfAbsent(Interner.class, Interner::new);
+        }
+    }
+
+    /**
+     * Returns the repository cache set in overrides, or new cache if none set.
+     *
+     * @since 2.4.47
+     */
+    protected RepositoryCache newRepositoryCache(ContextOverrides overrides) {
+        return overrides.getRepositoryCache() != null ? overrides.getRepositoryCache() : new DefaultRepositoryCache();
     }
 
     protected void customizeLocalRepositoryManager(Context context, DefaultRepositorySystemSession session) {
@@ -169,8 +358,24 @@ public abstract class RuntimeSupport implements Runtime {
 
     protected void newLocalRepositoryManager(
             Path localRepoPath, RepositorySystem repositorySystem, DefaultRepositorySystemSession session) {
+        session.setLocalRepositoryManager(createLocalRepositoryManager(localRepoPath, repositorySystem, session));
+    }
+
+    /**
+     * Creates local repository manager for given path, chained with tail local repositories, if configured.
+     *
+     * @since 2.4.47
+     */
+    protected LocalRepositoryManager createLocalRepositoryManager(
+            Path localRepoPath, RepositorySystem repositorySystem, RepositorySystemSession session) {
+        boolean shared = ConfigUtils.getBoolean(session, false, CONFIG_PROP_SHARED_LOCAL_REPOSITORY_MANAGER);
+        boolean indexed = ConfigUtils.getBoolean(session, false, CONFIG_PROP_INDEXED_LOCAL_REPOSITORY_MANAGER);
+        if (indexed && !shared) {
+            throw new IllegalArgumentException(CONFIG_PROP_INDEXED_LOCAL_REPOSITORY_MANAGER + " requires "
+                    + CONFIG_PROP_SHARED_LOCAL_REPOSITORY_MANAGER + " to be enabled as well");
+        }
         LocalRepository localRepo = new LocalRepository(localRepoPath.toFile());
-        LocalRepositoryManager lrm = repositorySystem.newLocalRepositoryManager(session, localRepo);
+        LocalRepositoryManager lrm = newLocalRepositoryManager(shared, indexed, repositorySystem, session, localRepo);
 
         String localRepoTail = ConfigUtils.getString(session, null, MAVEN_REPO_LOCAL_TAIL);
         if (localRepoTail != null) {
@@ -181,28 +386,46 @@ public abstract class RuntimeSupport implements Runtime {
                     .filter(p -> p != null && !p.trim().isEmpty())
                     .collect(toList());
             for (String path : paths) {
-                tail.add(repositorySystem.newLocalRepositoryManager(session, new LocalRepository(path)));
+                tail.add(newLocalRepositoryManager(
+                        shared, indexed, repositorySystem, session, new LocalRepository(path)));
             }
-            session.setLocalRepositoryManager(new ChainedLocalRepositoryManager(lrm, tail, ignoreTailAvailability));
+            return new ChainedLocalRepositoryManager(lrm, tail, ignoreTailAvailability);
         } else {
-            session.setLocalRepositoryManager(lrm);
+            return lrm;
+        }
+    }
+
+    private static LocalRepositoryManager newLocalRepositoryManager(
+            boolean shared,
+            boolean indexed,
+            RepositorySystem repositorySystem,
+            RepositorySystemSession session,
+            LocalRepository localRepository) {
+        if (shared) {
+            return SharedLocalRepositoryManagers.get(repositorySystem, session, localRepository, indexed);
         }
+        return repositorySystem.newLocalRepositoryManager(session, localRepository);
     }
 
     protected void customizeChecksumPolicy(ContextOverrides overrides, DefaultRepositorySystemSession session) {
+        String checksumPolicy = checksumPolicy(overrides);
+        if (checksumPolicy != null) {
+            session.setChecksumPolicy(checksumPolicy);
+        }
+    }
+
+    private static String checksumPolicy(ContextOverrides overrides) {
         if (overrides.getChecksumPolicy() != null) {
             switch (overrides.getChecksumPolicy()) {
                 case FAIL:
-                    session.setChecksumPolicy(RepositoryPolicy.CHECKSUM_POLICY_FAIL);
-                    break;
+                    return RepositoryPolicy.CHECKSUM_POLICY_FAIL;
                 case WARN:
-                    session.setChecksumPolicy(RepositoryPolicy.CHECKSUM_POLICY_WARN);
-                    break;
+                    return RepositoryPolicy.CHECKSUM_POLICY_WARN;
                 case IGNORE:
-                    session.setChecksumPolicy(RepositoryPolicy.CHECKSUM_POLICY_IGNORE);
-                    break;
+                    return RepositoryPolicy.CHECKSUM_POLICY_IGNORE;
             }
         }
+        return null;
     }
 
     protected void customizeArtifactDescriptorPolicy(
@@ -213,16 +436,22 @@ public abstract class RuntimeSupport implements Runtime {
     }
 
     protected void customizeSnapshotUpdatePolicy(ContextOverrides overrides, DefaultRepositorySystemSession session) {
+        String updatePolicy = snapshotUpdatePolicy(overrides);
+        if (updatePolicy != null) {
+            session.setUpdatePolicy(updatePolicy);
+        }
+    }
+
+    private static String snapshotUpdatePolicy(ContextOverrides overrides) {
         if (overrides.getSnapshotUpdatePolicy() != null) {
             switch (overrides.getSnapshotUpdatePolicy()) {
                 case ALWAYS:
-                    session.setUpdatePolicy(RepositoryPolicy.UPDATE_POLICY_ALWAYS);
-                    break;
+                    return RepositoryPolicy.UPDATE_POLICY_ALWAYS;
                 case NEVER:
-                    session.setUpdatePolicy(RepositoryPolicy.UPDATE_POLICY_NEVER);
-                    break;
+                    return RepositoryPolicy.UPDATE_POLICY_NEVER;
             }
         }
+        return null;
     }
 
     protected List<RemoteRepository> customizeRemoteRepositories(
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.context.internal;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+
+/**
+ * Process wide registry of {@link LocalRepositoryManager} instances, that allows contexts using same local repository
+ * to share one manager instance. Local repository managers are session independent once created, but their creation
+ * is driven by (captures) some of the session configuration, hence the sharing key is repository system, local
+ * repository (path and layout) and the configuration affecting the manager. Managers are kept per repository system
+ * (weakly), and per repository system a bounded count of most recently used ones.
+ *
+ * @since 2.4.47
+ */
+final class SharedLocalRepositoryManagers {
+    /**
+     * Prefixes of configuration keys that affect the creation of local repository manager.
+     */
+    private static final List<String> CONFIG_PREFIXES = Arrays.asList(
+            "aether.enhancedLocalRepository.", "aether.artifactResolver.simpleLrmInterop", "aether.priority.");
+
+    private static final int MAX_PER_SYSTEM = 32;
+
+    private static final WeakHashMap<RepositorySystem, Map<List<Object>, LocalRepositoryManager>> MANAGERS =
+            new WeakHashMap<>();
+
+    private SharedLocalRepositoryManagers() {}
+
+    /**
+     * Returns shared local repository manager for given local repository, creates it if needed, optionally
+     * {@link IndexedLocalRepositoryManager indexed}.
+     */
+    static LocalRepositoryManager get(
+            RepositorySystem repositorySystem,
+            RepositorySystemSession session,
+            LocalRepository localRepository,
+            boolean indexed) {
+        List<Object> key = Arrays.asList(localRepository, configuration(session.getConfigProperties()), indexed);
+        Map<List<Object>, LocalRepositoryManager> managers;
+        synchronized (MANAGERS) {
+            managers = MANAGERS.computeIfAbsent(repositorySystem, k -> lru());
+            LocalRepositoryManager manager = managers.get(key);
+            if (manager != null) {
+                return manager;
+            }
+        }
+        // create outside of lock; if raced, the first registered one wins
+        LocalRepositoryManager manager = repositorySystem.newLocalRepositoryManager(session, localRepository);
+        if (indexed) {
+            manager = new IndexedLocalRepositoryManager(manager);
+        }
+        synchronized (MANAGERS) {
+            LocalRepositoryManager existing = managers.putIfAbsent(key, manager);
+            return existing != null ? existing : manager;
+        }
+    }
+
+    private static Map<List<Object>, LocalRepositoryManager> lru() {
+        return new LinkedHashMap<List<Object>, LocalRepositoryManager>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, LocalRepositoryManager> eldest) {
+                return size() > MAX_PER_SYSTEM;
+            }
+        };
+    }
+
+    private static Map<String, String> configuration(Map<String, Object> configProperties) {
+        TreeMap<String, String> result = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : configProperties.entrySet()) {
+            for (String prefix : CONFIG_PREFIXES) {
+                if (entry.getKey().startsWith(prefix)) {
+                    result.put(entry.getKey(), String.valueOf(entry.getValue()));
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.context.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.mima.context.StartupTimings;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+
+/**
+ * Records durations of context creation phases. Usage: invoke {@link #start()} and pass the returned value to
+ * {@link #record(String, long)} once the phase is done. Repeated phases are summed up.
+ * <p>
+ * For internal use only in runtimes.
+ */
+public final class StartupRecorder {
+    private final LinkedHashMap<String, Duration> phases = new LinkedHashMap<>();
+
+    /**
+     * Returns the start of a phase.
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the phase that started at given time and ends now.
+     */
+    public synchronized void record(String phase, long start) {
+        requireNonNull(phase, "phase");
+        phases.merge(phase, Duration.ofNanos(System.nanoTime() - start), Duration::plus);
+    }
+
+    /**
+     * Returns the timings recorded so far.
+     */
+    public synchronized StartupTimings build() {
+        return new StartupTimings(phases);
+    }
+}
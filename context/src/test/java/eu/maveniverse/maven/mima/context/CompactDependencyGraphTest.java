@@ -0,0 +1,85 @@
+package eu.maveniverse.maven.mima.context;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.util.graph.visitor.PreorderNodeListGenerator;
+import org.junit.jupiter.api.Test;
+
+class CompactDependencyGraphTest {
+    private static DefaultDependencyNode node(String coordinates, String scope, boolean optional) {
+        DefaultArtifact artifact = new DefaultArtifact(coordinates);
+        return new DefaultDependencyNode(new Dependency(
+                artifact.setFile(Paths.get(artifact.getArtifactId() + ".jar")
+                        .toAbsolutePath()
+                        .toFile()),
+                scope,
+                optional));
+    }
+
+    /**
+     * Diamond: root -> a, b; a -> c; b -> c (shared node).
+     */
+    private static DependencyNode diamond() {
+        DefaultDependencyNode root = new DefaultDependencyNode((DefaultArtifact) null);
+        DefaultDependencyNode a = node("org.example:a:1.0", "compile", false);
+        DefaultDependencyNode b = node("org.example:b:1.0", "runtime", true);
+        DefaultDependencyNode c = node("org.example:c:jar:tests:1.0", "compile", false);
+        a.setChildren(Arrays.asList(c));
+        b.setChildren(Arrays.asList(c));
+        root.setChildren(Arrays.asList(a, b));
+        return root;
+    }
+
+    @Test
+    void compact() {
+        DependencyNode root = diamond();
+        CompactDependencyGraph graph = CompactDependencyGraph.of(root);
+
+        assertEquals(4, graph.size());
+        assertFalse(graph.hasArtifact(0));
+        assertNull(graph.getArtifact(0));
+        assertNull(graph.getScope(0));
+        assertEquals(2, graph.childCount(0));
+        // shared node is kept once
+        int a = graph.child(0, 0);
+        int b = graph.child(0, 1);
+        assertEquals(graph.child(a, 0), graph.child(b, 0));
+        assertEquals("b", graph.getArtifactId(b));
+        assertEquals("runtime", graph.getScope(b));
+        assertTrue(graph.isOptional(b));
+        assertEquals("tests", graph.getClassifier(graph.child(a, 0)));
+        // org.example, jar, "", 1.0 and compile are interned
+        assertEquals(10, graph.stringCount());
+
+        assertArrayEquals(new int[] {1, 2, 3}, graph.preorder());
+        PreorderNodeListGenerator nlg = new PreorderNodeListGenerator();
+        root.accept(nlg);
+        assertEquals(nlg.getClassPath(), graph.getClassPath());
+    }
+
+    @Test
+    void roundTrip() {
+        CompactDependencyGraph graph = CompactDependencyGraph.of(diamond());
+        DependencyNode root = graph.toDependencyNode();
+
+        assertNull(root.getDependency());
+        DependencyNode a = root.getChildren().get(0);
+        DependencyNode b = root.getChildren().get(1);
+        assertEquals(new DefaultArtifact("org.example:a:1.0"), a.getArtifact().setFile(null));
+        assertEquals("runtime", b.getDependency().getScope());
+        assertTrue(b.getDependency().isOptional());
+        assertSame(a.getChildren().get(0), b.getChildren().get(0));
+        assertEquals(graph.getClassPath(), CompactDependencyGraph.of(root).getClassPath());
+    }
+}
@@ -0,0 +1,56 @@
+package eu.maveniverse.maven.mima.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.jupiter.api.Test;
+
+class InternerTest {
+    private static RemoteRepository repository(String id) {
+        return new RemoteRepository.Builder(id, "default", "https://repo.example.org/" + id).build();
+    }
+
+    @Test
+    void artifacts() {
+        Interner interner = new Interner();
+        Artifact artifact = interner.artifact("org.example", "lib", "", "pom", "1.0");
+        assertEquals(new DefaultArtifact("org.example:lib:pom:1.0"), artifact);
+        assertSame(artifact, interner.artifact(new String("org.example"), "lib", null, "pom", "1.0"));
+        assertSame(artifact.getGroupId(), interner.intern(new String("org.example")));
+    }
+
+    @Test
+    void repositories() {
+        Interner interner = new Interner();
+        RemoteRepository central = repository("central");
+        assertSame(central, interner.repository(central));
+        assertSame(central, interner.repository(repository("central")));
+
+        ArrayList<RemoteRepository> list = new ArrayList<>(Arrays.asList(repository("central"), repository("other")));
+        List<RemoteRepository> interned = interner.repositories(list);
+        assertEquals(list, interned);
+        assertSame(central, interned.get(0));
+        assertSame(interned, interner.repositories(Arrays.asList(repository("central"), repository("other"))));
+        // canonical list is not affected by changes of passed in list
+        list.clear();
+        assertEquals(2, interned.size());
+        assertThrows(UnsupportedOperationException.class, interned::clear);
+    }
+
+    @Test
+    void bounded() {
+        Interner interner = new Interner(1);
+        assertSame(interner.repository(repository("one")), interner.repository(repository("one")));
+        RemoteRepository two = repository("two");
+        assertSame(two, interner.repository(two));
+        assertNotSame(interner.repository(repository("two")), interner.repository(repository("two")));
+    }
+}
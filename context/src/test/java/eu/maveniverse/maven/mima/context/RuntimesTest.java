@@ -0,0 +1,44 @@
+package eu.maveniverse.maven.mima.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RuntimesTest {
+    @AfterEach
+    void reset() {
+        Runtimes.INSTANCE.resetRuntimes();
+    }
+
+    private static Runtime runtime(String name, int priority) {
+        Runtime runtime = mock(Runtime.class);
+        when(runtime.name()).thenReturn(name);
+        when(runtime.priority()).thenReturn(priority);
+        return runtime;
+    }
+
+    @Test
+    void registration() {
+        Runtime low = runtime("low", 20);
+        Runtime high = runtime("high", 10);
+        Runtimes.INSTANCE.resetRuntimes();
+        Runtimes.INSTANCE.registerRuntime(low);
+        Collection<Runtime> snapshot = Runtimes.INSTANCE.getRuntimes();
+        Runtimes.INSTANCE.registerRuntime(high);
+        Runtimes.INSTANCE.registerRuntime(runtime("high", 5)); // first registration wins
+
+        assertSame(high, Runtimes.INSTANCE.getRuntime());
+        assertEquals(Arrays.asList(high, low), new ArrayList<>(Runtimes.INSTANCE.getRuntimes()));
+        // snapshot is not affected by later registrations
+        assertEquals(1, snapshot.size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(high));
+    }
+}
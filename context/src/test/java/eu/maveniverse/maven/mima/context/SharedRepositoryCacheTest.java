@@ -0,0 +1,85 @@
+package eu.maveniverse.maven.mima.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.LocalRepository;
+import org.junit.jupiter.api.Test;
+
+class SharedRepositoryCacheTest {
+    private static RepositorySystemSession session(String localRepository) {
+        return session(localRepository, Collections.emptyMap());
+    }
+
+    private static RepositorySystemSession session(String localRepository, Map<String, String> userProperties) {
+        RepositorySystemSession session = mock(RepositorySystemSession.class);
+        when(session.getLocalRepository()).thenReturn(new LocalRepository(localRepository));
+        when(session.getSystemProperties()).thenReturn(Collections.emptyMap());
+        when(session.getUserProperties()).thenReturn(userProperties);
+        when(session.getData()).thenReturn(new DefaultSessionData());
+        return session;
+    }
+
+    @Test
+    void scopedByLocalRepository() {
+        SharedRepositoryCache cache = new SharedRepositoryCache(10, Duration.ofMinutes(1));
+        RepositorySystemSession one = session("one");
+        Object key = Arrays.asList("key");
+        cache.put(one, key, "value");
+        assertEquals("value", cache.get(one, key));
+        assertEquals("value", cache.get(session("one"), key));
+        assertNull(cache.get(session("two"), key));
+    }
+
+    @Test
+    void scopedByProperties() {
+        SharedRepositoryCache cache = new SharedRepositoryCache(10, Duration.ofMinutes(1));
+        Object key = Arrays.asList("key");
+        cache.put(session("one", Collections.singletonMap("a", "1")), key, "value");
+        assertEquals("value", cache.get(session("one", Collections.singletonMap("a", "1")), key));
+        assertNull(cache.get(session("one", Collections.singletonMap("a", "2")), key));
+        assertNull(cache.get(session("one"), key));
+    }
+
+    @Test
+    void stringKeysScopedBySession() {
+        SharedRepositoryCache cache = new SharedRepositoryCache(10, Duration.ofMinutes(1));
+        RepositorySystemSession one = session("one");
+        cache.put(one, "key", "value");
+        assertEquals("value", cache.get(one, "key"));
+        assertNull(cache.get(session("one"), "key"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void sizeBounded() {
+        SharedRepositoryCache cache = new SharedRepositoryCache(2, Duration.ofMinutes(1));
+        RepositorySystemSession session = session("one");
+        cache.put(session, 1, "a");
+        cache.put(session, 2, "b");
+        cache.get(session, 1); // b is now least recently used
+        cache.put(session, 3, "c");
+        assertEquals(2, cache.size());
+        assertEquals("a", cache.get(session, 1));
+        assertNull(cache.get(session, 2));
+        assertEquals("c", cache.get(session, 3));
+    }
+
+    @Test
+    void expiring() throws InterruptedException {
+        SharedRepositoryCache cache = new SharedRepositoryCache(10, Duration.ofMillis(10));
+        RepositorySystemSession session = session("one");
+        cache.put(session, 1, "a");
+        Thread.sleep(50);
+        assertNull(cache.get(session, 1));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,82 @@
+package eu.maveniverse.maven.mima.context.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ExecutorSupportTest {
+    @Test
+    void bounded() throws Exception {
+        bounded(false);
+    }
+
+    @Test
+    void boundedVirtual() throws Exception {
+        bounded(true);
+    }
+
+    private void bounded(boolean virtualThreads) throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = ExecutorSupport.newBoundedExecutor("test", 2, virtualThreads);
+        try {
+            ArrayList<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(executor.submit(() -> {
+                    threads.add(Thread.currentThread());
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(maxRunning.get() <= 2, "max running " + maxRunning.get());
+        if (virtualThreads && ExecutorSupport.isVirtualThreadsSupported()) {
+            // thread per task, not a pool of two
+            assertEquals(20, threads.size());
+        } else {
+            assertTrue(threads.size() <= 2, "threads " + threads.size());
+        }
+    }
+
+    @Test
+    void shutdownNowCancelsWaitingVirtual() throws Exception {
+        assumeTrue(ExecutorSupport.isVirtualThreadsSupported());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch block = new CountDownLatch(1);
+        ExecutorService executor = ExecutorSupport.newBoundedExecutor("test", 1, true);
+        Future<?> running = executor.submit(() -> {
+            started.countDown();
+            block.await();
+            return null;
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        Future<?> waiting = executor.submit(() -> null);
+        executor.shutdownNow();
+        assertThrows(CancellationException.class, () -> waiting.get(10, TimeUnit.SECONDS));
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertTrue(running.isDone());
+    }
+}
@@ -0,0 +1,48 @@
+package eu.maveniverse.maven.mima.context.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import eu.maveniverse.maven.mima.context.Lookup;
+import java.util.Arrays;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class IteratingLookupTest {
+    @Test
+    void cached() {
+        Lookup first = mock(Lookup.class);
+        Lookup second = mock(Lookup.class);
+        when(first.lookup(String.class)).thenReturn(Optional.empty());
+        when(second.lookup(String.class)).thenReturn(Optional.of("second"));
+        when(first.lookup(Integer.class)).thenReturn(Optional.empty());
+        when(second.lookup(Integer.class)).thenReturn(Optional.empty());
+        when(first.lookup(String.class, "named")).thenReturn(Optional.of("named"));
+
+        IteratingLookup lookup = new IteratingLookup(Arrays.asList(first, second), true);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Optional.of("second"), lookup.lookup(String.class));
+            assertFalse(lookup.lookup(Integer.class).isPresent());
+            assertEquals(Optional.of("named"), lookup.lookup(String.class, "named"));
+        }
+        verify(first, times(1)).lookup(String.class);
+        verify(second, times(1)).lookup(String.class);
+        verify(second, times(1)).lookup(Integer.class);
+        verify(first, times(1)).lookup(String.class, "named");
+    }
+
+    @Test
+    void uncached() {
+        Lookup delegate = mock(Lookup.class);
+        when(delegate.lookup(String.class)).thenReturn(Optional.empty());
+
+        IteratingLookup lookup = new IteratingLookup(delegate);
+        lookup.lookup(String.class);
+        lookup.lookup(String.class);
+        verify(delegate, times(2)).lookup(String.class);
+    }
+}
@@ -10,9 +10,11 @@ package eu.maveniverse.maven.mima.extensions.mhc4;
 import static java.util.Objects.requireNonNull;
 
 import eu.maveniverse.maven.mima.context.Context;
+import eu.maveniverse.maven.mima.extensions.mhc4.impl.ConnectionManagerRegistry;
 import eu.maveniverse.maven.mima.extensions.mhc4.impl.MavenHttpClient4FactoryImpl;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.eclipse.aether.ConfigurationProperties;
+import org.eclipse.aether.SessionData;
 import org.eclipse.aether.repository.RemoteRepository;
 
 /**
@@ -28,10 +30,17 @@ import org.eclipse.aether.repository.RemoteRepository;
  * <p>
  * Differences between {@link #createResolutionClient(RemoteRepository)} and {@link #createDeploymentClient(RemoteRepository)}
  * are exactly the same as in Maven/Resolver. See corresponding Javadoc.
+ * <p>
+ * Connection managers are shared per context: all builders created for same repository (same ID and URL) and same
+ * effective connection configuration using same {@link Context} share one connection manager (hence keep-alive
+ * connections and TLS sessions), that is shut down when context is closed. Hence, clients built using this factory
+ * must not be used after context is closed.
  *
  * @see MavenHttpClient4FactoryImpl
  */
 public class MavenHttpClient4Factory {
+    private static final String REGISTRY_KEY = ConnectionManagerRegistry.class.getName();
+
     protected final Context context;
     protected final MavenHttpClient4FactoryImpl factory;
 
@@ -40,7 +49,27 @@ public class MavenHttpClient4Factory {
      */
     public MavenHttpClient4Factory(Context context) {
         this.context = requireNonNull(context);
-        this.factory = new MavenHttpClient4FactoryImpl(context.repositorySystem());
+        this.factory = new MavenHttpClient4FactoryImpl(context.repositorySystem(), connectionManagerRegistry(context));
+    }
+
+    /**
+     * Returns the {@link ConnectionManagerRegistry} kept in session data of given context, creating it if needed. The
+     * registry is bound to the context that created it, and is closed (and removed from session data) when that
+     * context is closed. Derived contexts sharing session data share the registry as well.
+     *
+     * @since 2.4.47
+     */
+    public static ConnectionManagerRegistry connectionManagerRegistry(Context context) {
+        requireNonNull(context, "context");
+        SessionData data = context.repositorySystemSession().getData();
+        return (ConnectionManagerRegistry) data.computeIfAbsent(REGISTRY_KEY, () -> {
+            ConnectionManagerRegistry registry = new ConnectionManagerRegistry();
+            context.addCloseHandler(() -> {
+                data.set(REGISTRY_KEY, registry, null);
+                registry.close();
+            });
+            return registry;
+        });
     }
 
     /**
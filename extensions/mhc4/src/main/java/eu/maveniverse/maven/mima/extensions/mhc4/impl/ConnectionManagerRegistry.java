@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.extensions.mhc4.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.function.Supplier;
+import org.apache.http.conn.HttpClientConnectionManager;
+
+/**
+ * Registry of {@link HttpClientConnectionManager} instances, that allows clients created for same repository and
+ * with same effective connection configuration to share pooled (keep-alive) connections and TLS sessions. Managers
+ * handed out by this registry are owned by it, and are shut down when this registry is closed.
+ *
+ * @since 2.4.47
+ */
+public final class ConnectionManagerRegistry implements Closeable {
+    private final HashMap<Object, HttpClientConnectionManager> managers = new HashMap<>();
+
+    private boolean closed;
+
+    /**
+     * Returns the connection manager registered with given key, or creates and registers one using given supplier.
+     */
+    public synchronized HttpClientConnectionManager computeIfAbsent(
+            Object key, Supplier<HttpClientConnectionManager> supplier) {
+        requireNonNull(key, "key");
+        requireNonNull(supplier, "supplier");
+        if (closed) {
+            throw new IllegalStateException("registry is closed");
+        }
+        return managers.computeIfAbsent(key, k -> requireNonNull(supplier.get()));
+    }
+
+    /**
+     * Returns the count of registered connection managers.
+     */
+    public synchronized int size() {
+        return managers.size();
+    }
+
+    /**
+     * Shuts down all registered connection managers. Once closed, registry should not be used anymore.
+     */
+    @Override
+    public void close() {
+        ArrayList<HttpClientConnectionManager> toShutdown;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toShutdown = new ArrayList<>(managers.values());
+            managers.clear();
+        }
+        for (HttpClientConnectionManager manager : toShutdown) {
+            manager.shutdown();
+        }
+    }
+}
@@ -14,10 +14,12 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.UnknownHostException;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
@@ -106,11 +108,26 @@ public class MavenHttpClient4FactoryImpl {
 
     protected final RepositorySystem repositorySystem;
 
+    protected final ConnectionManagerRegistry connectionManagerRegistry;
+
     /**
      * Creates instance using passed in context.
      */
     public MavenHttpClient4FactoryImpl(RepositorySystem repositorySystem) {
+        this(repositorySystem, null);
+    }
+
+    /**
+     * Creates instance using passed in context and connection manager registry. If registry is non-{@code null},
+     * clients created for same repository and same effective connection configuration will share connection manager
+     * obtained from registry, otherwise each client gets new connection manager.
+     *
+     * @since 2.4.47
+     */
+    public MavenHttpClient4FactoryImpl(
+            RepositorySystem repositorySystem, ConnectionManagerRegistry connectionManagerRegistry) {
         this.repositorySystem = requireNonNull(repositorySystem);
+        this.connectionManagerRegistry = connectionManagerRegistry;
     }
 
     /**
@@ -176,8 +193,14 @@ public class MavenHttpClient4FactoryImpl {
                     ConfigurationProperties.HTTP_MAX_CONNECTIONS_PER_ROUTE + "." + repository.getId(),
                     ConfigurationProperties.HTTP_MAX_CONNECTIONS_PER_ROUTE);
 
-            HttpClientConnectionManager connectionManager = newConnectionManager(new ConnMgrConfig(
-                    session, repoAuthContext, httpsSecurityMode, connectionMaxTtlSeconds, maxConnectionsPerRoute));
+            HttpClientConnectionManager connectionManager = getConnectionManager(
+                    repository,
+                    new ConnMgrConfig(
+                            session,
+                            repoAuthContext,
+                            httpsSecurityMode,
+                            connectionMaxTtlSeconds,
+                            maxConnectionsPerRoute));
 
             String credentialEncoding = ConfigUtils.getString(
                     session,
@@ -315,6 +338,22 @@ public class MavenHttpClient4FactoryImpl {
         }
     }
 
+    /**
+     * Returns connection manager for given repository and connection configuration: either shared one from registry,
+     * if present, or a new one.
+     *
+     * @since 2.4.47
+     */
+    protected HttpClientConnectionManager getConnectionManager(
+            RemoteRepository repository, ConnMgrConfig connMgrConfig) {
+        if (connectionManagerRegistry == null) {
+            return newConnectionManager(connMgrConfig);
+        }
+        return connectionManagerRegistry.computeIfAbsent(
+                Arrays.asList(repository.getId(), repository.getUrl(), connMgrConfig),
+                () -> newConnectionManager(connMgrConfig));
+    }
+
     protected static InetAddress getHttpLocalAddress(RepositorySystemSession session, RemoteRepository repository) {
         String bindAddress =
                 ConfigUtils.getString(session, null, BIND_ADDRESS + "." + repository.getId(), BIND_ADDRESS);
@@ -410,6 +449,33 @@ public class MavenHttpClient4FactoryImpl {
             }
             return value.split(",+");
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ConnMgrConfig that = (ConnMgrConfig) o;
+            return connectionMaxTtlSeconds == that.connectionMaxTtlSeconds
+                    && maxConnectionsPerRoute == that.maxConnectionsPerRoute
+                    && Objects.equals(context, that.context)
+                    && Objects.equals(verifier, that.verifier)
+                    && Arrays.equals(cipherSuites, that.cipherSuites)
+                    && Arrays.equals(protocols, that.protocols)
+                    && Objects.equals(httpsSecurityMode, that.httpsSecurityMode);
+        }
+
+        @Override
+        public int hashCode() {
+            int result =
+                    Objects.hash(context, verifier, httpsSecurityMode, connectionMaxTtlSeconds, maxConnectionsPerRoute);
+            result = 31 * result + Arrays.hashCode(cipherSuites);
+            result = 31 * result + Arrays.hashCode(protocols);
+            return result;
+        }
     }
 
     protected static HttpClientConnectionManager newConnectionManager(ConnMgrConfig connMgrConfig) {
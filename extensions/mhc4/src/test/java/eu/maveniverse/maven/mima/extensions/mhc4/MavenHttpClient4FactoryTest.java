@@ -10,6 +10,7 @@ package eu.maveniverse.maven.mima.extensions.mhc4;
 import eu.maveniverse.maven.mima.context.Context;
 import eu.maveniverse.maven.mima.context.ContextOverrides;
 import eu.maveniverse.maven.mima.context.Runtimes;
+import eu.maveniverse.maven.mima.extensions.mhc4.impl.ConnectionManagerRegistry;
 import java.io.IOException;
 import java.net.URI;
 import org.apache.http.client.methods.CloseableHttpResponse;
@@ -87,4 +88,26 @@ public class MavenHttpClient4FactoryTest {
             Assertions.assertTrue(e.getMessage().contains("blocked"));
         }
     }
+
+    @Test
+    void sharedConnectionManagers() {
+        ConnectionManagerRegistry registry;
+        try (Context context = Runtimes.INSTANCE
+                .getRuntime()
+                .create(ContextOverrides.create().withUserSettings(true).build())) {
+            registry = MavenHttpClient4Factory.connectionManagerRegistry(context);
+            Assertions.assertSame(registry, MavenHttpClient4Factory.connectionManagerRegistry(context));
+            new MavenHttpClient4Factory(context).createResolutionClient(ContextOverrides.CENTRAL);
+            new MavenHttpClient4Factory(context).createDeploymentClient(ContextOverrides.CENTRAL);
+            Assertions.assertEquals(1, registry.size());
+            // same repository id, different URL
+            new MavenHttpClient4Factory(context)
+                    .createResolutionClient(new RemoteRepository.Builder(ContextOverrides.CENTRAL)
+                            .setUrl("https://repo.maven.apache.org/maven2/other/")
+                            .build());
+            Assertions.assertEquals(2, registry.size());
+        }
+        Assertions.assertEquals(0, registry.size());
+        Assertions.assertThrows(IllegalStateException.class, () -> registry.computeIfAbsent("key", () -> null));
+    }
 }
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.extensions.mmr;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.mima.context.Context;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.building.ModelCache;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.apache.maven.model.io.xpp3.MavenXpp3Writer;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Opt-in {@link ModelCache} for {@link MavenModelReader}: in-memory with LRU eviction, and optionally persistent.
+ * <p>
+ * Entries are keyed by GAV and cache tag, and are valid only as long as the checksum of the POM file in local
+ * repository is unchanged. POMs of snapshot versions are never cached. The persistent store (if configured) keeps
+ * only imported dependency management (BOM imports), as that is the only cached data that is serializable as model.
+ * Imported dependency management is interpolated and has profiles activated using the system and user properties of
+ * the session, hence persisted entries are also keyed by digest of these properties of the context session, and are
+ * reused only by processes using same properties. Entries with coordinates not usable as path segments (like
+ * {@code ..}) are not persisted.
+ * <p>
+ * Note: as {@link ModelCache} is not aware of properties used by model building, this cache should be used only with
+ * the session of the context it was created with (or with sessions having same system and user properties).
+ * <p>
+ * Note: cached imported dependency management is keyed by the BOM POM checksum only, changes in the parents of a
+ * released BOM are not detected.
+ *
+ * @since 2.4.47
+ */
+public final class MavenModelCache implements ModelCache {
+    private static final String IMPORT_TAG = "import";
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final Context context;
+
+    private final Path persistentDirectory;
+
+    private final Map<List<String>, CacheEntry> entries;
+
+    private final Map<Path, Checksum> checksums;
+
+    private final String propertiesDigest;
+
+    /**
+     * Creates in-memory cache holding at most given count of entries.
+     */
+    public MavenModelCache(Context context, int maxEntries) {
+        this(context, maxEntries, null);
+    }
+
+    /**
+     * Creates cache holding at most given count of entries in memory, and persisting imported dependency management
+     * into given directory, if not {@code null}.
+     *
+     * @see #defaultPersistentDirectory(Context)
+     */
+    public MavenModelCache(Context context, int maxEntries, Path persistentDirectory) {
+        this.context = requireNonNull(context);
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be greater than zero");
+        }
+        this.persistentDirectory = persistentDirectory;
+        this.entries = new LinkedHashMap<List<String>, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, CacheEntry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.checksums = new LinkedHashMap<Path, Checksum>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, Checksum> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.propertiesDigest = persistentDirectory != null ? propertiesDigest(context) : null;
+    }
+
+    /**
+     * Returns SHA-1 of (sorted) system and user properties of context session.
+     */
+    private static String propertiesDigest(Context context) {
+        RepositorySystemSession session = context.repositorySystemSession();
+        StringBuilder properties = new StringBuilder();
+        new TreeMap<>(session.getSystemProperties())
+                .forEach((k, v) ->
+                        properties.append("s:").append(k).append('=').append(v).append('\n'));
+        new TreeMap<>(session.getUserProperties())
+                .forEach((k, v) ->
+                        properties.append("u:").append(k).append('=').append(v).append('\n'));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return String.format(
+                    "%040x",
+                    new BigInteger(1, digest.digest(properties.toString().getBytes(StandardCharsets.UTF_8))));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not supported", e);
+        }
+    }
+
+    /**
+     * The default persistent directory, located in Maven user home.
+     */
+    public static Path defaultPersistentDirectory(Context context) {
+        return context.mavenUserHome().basedir().resolve("mima").resolve("model-cache");
+    }
+
+    @Override
+    public Object get(String groupId, String artifactId, String version, String tag) {
+        String checksum = checksum(groupId, artifactId, version);
+        if (checksum == null) {
+            return null;
+        }
+        List<String> key = Arrays.asList(groupId, artifactId, version, tag);
+        CacheEntry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && entry.checksum.equals(checksum)) {
+            return entry.data;
+        }
+        if (persistentDirectory != null && IMPORT_TAG.equals(tag)) {
+            DependencyManagement dependencyManagement = readPersistent(groupId, artifactId, version, checksum);
+            if (dependencyManagement != null) {
+                synchronized (entries) {
+                    entries.put(key, new CacheEntry(checksum, dependencyManagement));
+                }
+                return dependencyManagement;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void put(String groupId, String artifactId, String version, String tag, Object data) {
+        String checksum = checksum(groupId, artifactId, version);
+        if (checksum == null || data == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(Arrays.asList(groupId, artifactId, version, tag), new CacheEntry(checksum, data));
+        }
+        if (persistentDirectory != null && IMPORT_TAG.equals(tag) && data instanceof DependencyManagement) {
+            writePersistent(groupId, artifactId, version, checksum, (DependencyManagement) data);
+        }
+    }
+
+    /**
+     * Returns the SHA-1 of POM in local repository, or {@code null} if POM is not cacheable (is snapshot or not
+     * present in local repository).
+     */
+    private String checksum(String groupId, String artifactId, String version) {
+        if (groupId == null || artifactId == null || version == null || version.endsWith("SNAPSHOT")) {
+            return null;
+        }
+        RepositorySystemSession session = context.repositorySystemSession();
+        Path pom = session.getLocalRepository()
+                .getBasedir()
+                .toPath()
+                .resolve(session.getLocalRepositoryManager()
+                        .getPathForLocalArtifact(new DefaultArtifact(groupId, artifactId, "pom", version)));
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(pom, BasicFileAttributes.class);
+            long size = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            Checksum checksum;
+            synchronized (checksums) {
+                checksum = checksums.get(pom);
+            }
+            if (checksum == null || checksum.size != size || checksum.lastModified != lastModified) {
+                checksum = new Checksum(size, lastModified, sha1(pom));
+                synchronized (checksums) {
+                    checksums.put(pom, checksum);
+                }
+            }
+            return checksum.sha1;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String sha1(Path file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return String.format("%040x", new BigInteger(1, digest.digest()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not supported", e);
+        }
+    }
+
+    /**
+     * Returns the persistent file of given entry, or {@code null} if coordinates are not usable as path segments
+     * (would escape the persistent directory).
+     */
+    private Path persistentFile(String groupId, String artifactId, String version, String checksum) {
+        if (!isSafeSegment(groupId) || !isSafeSegment(artifactId) || !isSafeSegment(version)) {
+            return null;
+        }
+        Path file = persistentDirectory
+                .resolve(groupId)
+                .resolve(artifactId)
+                .resolve(version)
+                .resolve(IMPORT_TAG + "-" + checksum + "-" + propertiesDigest + ".xml");
+        if (!file.normalize().startsWith(persistentDirectory.normalize())) {
+            return null;
+        }
+        return file;
+    }
+
+    private static boolean isSafeSegment(String segment) {
+        if (segment.isEmpty() || ".".equals(segment) || "..".equals(segment)) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '/' || c == '\\' || c == ':' || c < ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private DependencyManagement readPersistent(String groupId, String artifactId, String version, String checksum) {
+        Path file = persistentFile(groupId, artifactId, version, checksum);
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return new MavenXpp3Reader().read(inputStream, false).getDependencyManagement();
+        } catch (IOException | XmlPullParserException e) {
+            logger.debug("Could not read persisted model cache entry {}", file, e);
+            return null;
+        }
+    }
+
+    private void writePersistent(
+            String groupId, String artifactId, String version, String checksum, DependencyManagement data) {
+        Path file = persistentFile(groupId, artifactId, version, checksum);
+        if (file == null || Files.isRegularFile(file)) {
+            return;
+        }
+        Model model = new Model();
+        model.setModelVersion("4.0.0");
+        model.setGroupId(groupId);
+        model.setArtifactId(artifactId);
+        model.setVersion(version);
+        model.setDependencyManagement(data);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), "import", ".tmp");
+            try {
+                try (OutputStream outputStream = Files.newOutputStream(temp)) {
+                    new MavenXpp3Writer().write(outputStream, model);
+                }
+                try {
+                    Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            logger.debug("Could not persist model cache entry {}", file, e);
+        }
+    }
+
+    private static final class CacheEntry {
+        private final String checksum;
+        private final Object data;
+
+        private CacheEntry(String checksum, Object data) {
+            this.checksum = checksum;
+            this.data = data;
+        }
+    }
+
+    private static final class Checksum {
+        private final long size;
+        private final long lastModified;
+        private final String sha1;
+
+        private Checksum(long size, long lastModified, String sha1) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.sha1 = sha1;
+        }
+    }
+}
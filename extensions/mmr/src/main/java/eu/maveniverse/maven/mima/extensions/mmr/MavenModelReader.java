@@ -11,7 +11,10 @@ import static java.util.Objects.requireNonNull;
 
 import eu.maveniverse.maven.mima.context.Context;
 import eu.maveniverse.maven.mima.extensions.mmr.internal.MavenModelReaderImpl;
+import java.util.Collection;
+import java.util.List;
 import org.apache.maven.model.building.ModelBuilder;
+import org.apache.maven.model.building.ModelCache;
 import org.apache.maven.model.interpolation.StringVisitorModelInterpolator;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
@@ -54,6 +57,17 @@ public class MavenModelReader {
      * by default, but can be overridden in {@link ModelRequest}.
      */
     public MavenModelReader(Context context) {
+        this(context, null);
+    }
+
+    /**
+     * Creates instance using passed in context and model cache. The model cache is optional (may be {@code null}), and
+     * is used while building models.
+     *
+     * @see MavenModelCache
+     * @since 2.4.47
+     */
+    public MavenModelReader(Context context, ModelCache modelCache) {
         this.context = requireNonNull(context);
         this.mavenModelReaderImpl = new MavenModelReaderImpl(
                 context.repositorySystem(),
@@ -69,7 +83,8 @@ public class MavenModelReader {
                 context.lookup()
                         .lookup(StringVisitorModelInterpolator.class)
                         .orElseThrow(() -> new IllegalStateException("StringVisitorModelInterpolator not available")),
-                context.remoteRepositories());
+                context.remoteRepositories(),
+                modelCache);
     }
 
     /**
@@ -85,6 +100,25 @@ public class MavenModelReader {
         return mavenModelReaderImpl.readModel(context.repositorySystemSession(), request);
     }
 
+    /**
+     * Reads POMs of passed in requests as {@link ModelResult}s, using given concurrency. Results are returned in same
+     * order as requests were. Resolution and reading of parent and imported POMs shared among requests is performed
+     * only once per batch.
+     * <p>
+     * Same remark about repositories applies as for {@link #readModel(ModelRequest)}. Models are read using virtual
+     * threads, if enabled by {@link eu.maveniverse.maven.mima.context.ContextOverrides#isWithVirtualThreads()}.
+     *
+     * @since 2.4.47
+     */
+    public List<ModelResult> readModels(Collection<ModelRequest> requests, int concurrency) {
+        requireNonNull(requests, "requests");
+        return mavenModelReaderImpl.readModels(
+                context.repositorySystemSession(),
+                requests,
+                concurrency,
+                context.contextOverrides().isWithVirtualThreads());
+    }
+
     /**
      * Just to allow easier testing.
      */
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.extensions.mmr;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Model result of batch model reading: carries the request and either the response or the failure.
+ *
+ * @see MavenModelReader#readModels(java.util.Collection, int)
+ * @since 2.4.47
+ */
+public class ModelResult {
+    private final ModelRequest request;
+    private final ModelResponse response;
+    private final Exception exception;
+
+    public ModelResult(ModelRequest request, ModelResponse response, Exception exception) {
+        this.request = requireNonNull(request);
+        if ((response == null) == (exception == null)) {
+            throw new IllegalArgumentException("exactly one of response or exception must be present");
+        }
+        this.response = response;
+        this.exception = exception;
+    }
+
+    /**
+     * The request this result belongs to.
+     */
+    public ModelRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Returns {@code true} if model was successfully read, in which case {@link #getResponse()} is non-{@code null}.
+     */
+    public boolean isSuccess() {
+        return response != null;
+    }
+
+    /**
+     * Returns the response or {@code null} if model reading failed.
+     */
+    public ModelResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * Returns the failure or {@code null} if model reading succeeded.
+     */
+    public Exception getException() {
+        return exception;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.extensions.mmr.internal;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.maven.model.building.ModelCache;
+
+/**
+ * Unbounded thread safe {@link ModelCache} scoped to one batch of model reads, used when user did not provide a model
+ * cache. Parents and imported POMs shared among models of the batch are read only once.
+ */
+final class BatchModelCache implements ModelCache {
+    private final ConcurrentHashMap<List<String>, Object> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public void put(String groupId, String artifactId, String version, String tag, Object data) {
+        if (data != null) {
+            entries.put(Arrays.asList(groupId, artifactId, version, tag), data);
+        }
+    }
+
+    @Override
+    public Object get(String groupId, String artifactId, String version, String tag) {
+        return entries.get(Arrays.asList(groupId, artifactId, version, tag));
+    }
+}
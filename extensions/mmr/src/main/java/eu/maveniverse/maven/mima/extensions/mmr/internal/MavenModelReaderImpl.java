@@ -9,16 +9,27 @@ package eu.maveniverse.maven.mima.extensions.mmr.internal;
 
 import static java.util.Objects.requireNonNull;
 
+import eu.maveniverse.maven.mima.context.Interner;
+import eu.maveniverse.maven.mima.context.internal.ExecutorSupport;
 import eu.maveniverse.maven.mima.extensions.mmr.ModelRequest;
 import eu.maveniverse.maven.mima.extensions.mmr.ModelResponse;
+import eu.maveniverse.maven.mima.extensions.mmr.ModelResult;
+import java.io.File;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import org.apache.maven.model.DependencyManagement;
 import org.apache.maven.model.DistributionManagement;
 import org.apache.maven.model.License;
@@ -31,6 +42,7 @@ import org.apache.maven.model.building.ModelBuilder;
 import org.apache.maven.model.building.ModelBuildingException;
 import org.apache.maven.model.building.ModelBuildingRequest;
 import org.apache.maven.model.building.ModelBuildingResult;
+import org.apache.maven.model.building.ModelCache;
 import org.apache.maven.model.building.ModelProblem;
 import org.apache.maven.model.building.ModelProblemUtils;
 import org.apache.maven.model.interpolation.StringVisitorModelInterpolator;
@@ -78,11 +90,12 @@ public class MavenModelReaderImpl {
     private final ModelBuilder modelBuilder;
     private final StringVisitorModelInterpolator stringVisitorModelInterpolator;
     private final List<RemoteRepository> repositories;
+    private final ModelCache modelCache;
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     /**
-     * Full ctor. Not usable for injection as repositories are not a component.
+     * Ctor without model cache. Not usable for injection as repositories are not a component.
      */
     public MavenModelReaderImpl(
             RepositorySystem repositorySystem,
@@ -91,24 +104,94 @@ public class MavenModelReaderImpl {
             ModelBuilder modelBuilder,
             StringVisitorModelInterpolator stringVisitorModelInterpolator,
             List<RemoteRepository> repositories) {
+        this(
+                repositorySystem,
+                remoteRepositoryManager,
+                repositoryEventDispatcher,
+                modelBuilder,
+                stringVisitorModelInterpolator,
+                repositories,
+                null);
+    }
+
+    /**
+     * Full ctor with optional model cache. Not usable for injection as repositories are not a component.
+     */
+    public MavenModelReaderImpl(
+            RepositorySystem repositorySystem,
+            RemoteRepositoryManager remoteRepositoryManager,
+            RepositoryEventDispatcher repositoryEventDispatcher,
+            ModelBuilder modelBuilder,
+            StringVisitorModelInterpolator stringVisitorModelInterpolator,
+            List<RemoteRepository> repositories,
+            ModelCache modelCache) {
         this.repositorySystem = requireNonNull(repositorySystem);
         this.remoteRepositoryManager = requireNonNull(remoteRepositoryManager);
         this.repositoryEventDispatcher = requireNonNull(repositoryEventDispatcher);
         this.modelBuilder = requireNonNull(modelBuilder);
         this.stringVisitorModelInterpolator = requireNonNull(stringVisitorModelInterpolator);
         this.repositories = requireNonNull(repositories);
+        this.modelCache = modelCache;
     }
 
     public ModelResponse readModel(RepositorySystemSession session, ModelRequest request)
             throws VersionResolutionException, ArtifactResolutionException, ArtifactDescriptorException {
-        return loadPom(session, request);
+        return loadPom(session, request, modelCache, null);
+    }
+
+    public List<ModelResult> readModels(
+            RepositorySystemSession session, Collection<ModelRequest> requests, int concurrency) {
+        return readModels(session, requests, concurrency, false);
+    }
+
+    public List<ModelResult> readModels(
+            RepositorySystemSession session,
+            Collection<ModelRequest> requests,
+            int concurrency,
+            boolean virtualThreads) {
+        ModelCache batchModelCache = modelCache != null ? modelCache : new BatchModelCache();
+        ConcurrentHashMap<List<Object>, FutureTask<File>> resolved = new ConcurrentHashMap<>();
+        ExecutorService executor = ExecutorSupport.newBoundedExecutor("mima-mmr", concurrency, virtualThreads);
+        try {
+            ArrayList<Future<ModelResult>> futures = new ArrayList<>(requests.size());
+            for (ModelRequest request : requests) {
+                requireNonNull(request, "request");
+                futures.add(executor.submit(() -> {
+                    try {
+                        return new ModelResult(request, loadPom(session, request, batchModelCache, resolved), null);
+                    } catch (Exception e) {
+                        return new ModelResult(request, null, e);
+                    }
+                }));
+            }
+            ArrayList<ModelResult> results = new ArrayList<>(futures.size());
+            for (Future<ModelResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading models", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unexpected failure while reading models", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
-    private ModelResponse loadPom(RepositorySystemSession session, ModelRequest request)
+    private ModelResponse loadPom(
+            RepositorySystemSession session,
+            ModelRequest request,
+            ModelCache modelCache,
+            ConcurrentMap<List<Object>, FutureTask<File>> resolved)
             throws VersionResolutionException, ArtifactResolutionException, ArtifactDescriptorException {
         List<RemoteRepository> repositories = this.repositories;
         if (request.getRepositories() != null) {
-            repositories = repositorySystem.newResolutionRepositories(session, request.getRepositories());
+            List<RemoteRepository> resolutionRepositories =
+                    repositorySystem.newResolutionRepositories(session, request.getRepositories());
+            repositories = Interner.of(session)
+                    .map(i -> i.repositories(resolutionRepositories))
+                    .orElse(resolutionRepositories);
         }
 
         ArtifactDescriptorRequest artifactDescriptorRequest = new ArtifactDescriptorRequest();
@@ -166,15 +249,16 @@ public class MavenModelReaderImpl {
             // properties in dependencies the user does not know. See MNG-7563 for details.
             modelRequest.setSystemProperties(toProperties(session.getUserProperties(), session.getSystemProperties()));
             modelRequest.setUserProperties(new Properties());
-            // no cache for now: to assure compatibility from 3.8 - 4.0
-            // modelRequest.setModelCache(modelCacheFunction != null ? modelCacheFunction.apply(session) : null);
+            // no cache by default: to assure compatibility from 3.8 - 4.0, it is opt-in
+            modelRequest.setModelCache(modelCache);
             modelRequest.setModelResolver(new ModelResolverImpl(
                     repositorySystem,
                     session,
                     trace.newChild(modelRequest),
                     request.getRequestContext(),
                     remoteRepositoryManager,
-                    repositories));
+                    repositories,
+                    resolved));
             if (resolveResult != null && resolveResult.getRepository() instanceof WorkspaceRepository) {
                 modelRequest.setPomFile(pomArtifact.getFile());
             } else {
@@ -7,13 +7,18 @@
  */
 package eu.maveniverse.maven.mima.extensions.mmr.internal;
 
+import eu.maveniverse.maven.mima.context.Interner;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Parent;
 import org.apache.maven.model.Repository;
@@ -61,6 +66,10 @@ public class ModelResolverImpl implements ModelResolver {
 
     private final Set<String> repositoryIds;
 
+    private final ConcurrentMap<List<Object>, FutureTask<File>> resolved;
+
+    private final Interner interner;
+
     public ModelResolverImpl(
             RepositorySystem repositorySystem,
             RepositorySystemSession session,
@@ -68,6 +77,21 @@ public class ModelResolverImpl implements ModelResolver {
             String context,
             RemoteRepositoryManager remoteRepositoryManager,
             List<RemoteRepository> repositories) {
+        this(repositorySystem, session, trace, context, remoteRepositoryManager, repositories, null);
+    }
+
+    /**
+     * Ctor with optional map of resolved POMs shared among resolvers, to resolve same POM against same repositories
+     * only once.
+     */
+    public ModelResolverImpl(
+            RepositorySystem repositorySystem,
+            RepositorySystemSession session,
+            RequestTrace trace,
+            String context,
+            RemoteRepositoryManager remoteRepositoryManager,
+            List<RemoteRepository> repositories,
+            ConcurrentMap<List<Object>, FutureTask<File>> resolved) {
         this.repositorySystem = repositorySystem;
         this.session = session;
         this.trace = trace;
@@ -77,6 +101,8 @@ public class ModelResolverImpl implements ModelResolver {
         this.externalRepositories = Collections.unmodifiableList(new ArrayList<>(repositories));
 
         this.repositoryIds = new HashSet<>();
+        this.resolved = resolved;
+        this.interner = Interner.of(session).orElse(null);
     }
 
     private ModelResolverImpl(ModelResolverImpl original) {
@@ -88,6 +114,8 @@ public class ModelResolverImpl implements ModelResolver {
         this.repositories = new ArrayList<>(original.repositories);
         this.externalRepositories = original.externalRepositories;
         this.repositoryIds = new HashSet<>(original.repositoryIds);
+        this.resolved = original.resolved;
+        this.interner = original.interner;
     }
 
     @Override
@@ -109,8 +137,9 @@ public class ModelResolverImpl implements ModelResolver {
             removeMatchingRepository(repositories, repository.getId());
         }
 
+        RemoteRepository remoteRepository = ArtifactDescriptorUtils.toRemoteRepository(repository);
         List<RemoteRepository> newRepositories =
-                Collections.singletonList(ArtifactDescriptorUtils.toRemoteRepository(repository));
+                Collections.singletonList(interner != null ? interner.repository(remoteRepository) : remoteRepository);
 
         this.repositories = remoteRepositoryManager.aggregateRepositories(session, repositories, newRepositories, true);
     }
@@ -133,7 +162,37 @@ public class ModelResolverImpl implements ModelResolver {
     @Override
     public ModelSource resolveModel(String groupId, String artifactId, String version)
             throws UnresolvableModelException {
-        Artifact pomArtifact = new DefaultArtifact(groupId, artifactId, "", "pom", version);
+        if (resolved == null) {
+            return new FileModelSource(resolvePom(groupId, artifactId, version));
+        }
+        // interned list is canonical (immutable) instance, no need to copy it
+        List<Object> key = Arrays.asList(
+                groupId,
+                artifactId,
+                version,
+                interner != null ? interner.repositories(repositories) : new ArrayList<>(repositories));
+        FutureTask<File> task = new FutureTask<>(() -> resolvePom(groupId, artifactId, version));
+        FutureTask<File> existing = resolved.putIfAbsent(key, task);
+        if (existing == null) {
+            task.run();
+        } else {
+            task = existing;
+        }
+        try {
+            return new FileModelSource(task.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UnresolvableModelException(e.getMessage(), groupId, artifactId, version, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UnresolvableModelException) {
+                throw (UnresolvableModelException) e.getCause();
+            }
+            throw new UnresolvableModelException(e.getMessage(), groupId, artifactId, version, e.getCause());
+        }
+    }
+
+    private File resolvePom(String groupId, String artifactId, String version) throws UnresolvableModelException {
+        Artifact pomArtifact = pomArtifact(groupId, artifactId, version);
 
         try {
             ArtifactRequest request = new ArtifactRequest(pomArtifact, repositories, context);
@@ -143,16 +202,20 @@ public class ModelResolverImpl implements ModelResolver {
             throw new UnresolvableModelException(e.getMessage(), groupId, artifactId, version, e);
         }
 
-        File pomFile = pomArtifact.getFile();
+        return pomArtifact.getFile();
+    }
 
-        return new FileModelSource(pomFile);
+    private Artifact pomArtifact(String groupId, String artifactId, String version) {
+        if (interner != null) {
+            return interner.artifact(groupId, artifactId, "", "pom", version);
+        }
+        return new DefaultArtifact(groupId, artifactId, "", "pom", version);
     }
 
     @Override
     public ModelSource resolveModel(final Parent parent) throws UnresolvableModelException {
         try {
-            final Artifact artifact =
-                    new DefaultArtifact(parent.getGroupId(), parent.getArtifactId(), "", "pom", parent.getVersion());
+            final Artifact artifact = pomArtifact(parent.getGroupId(), parent.getArtifactId(), parent.getVersion());
 
             final VersionRangeRequest versionRangeRequest = new VersionRangeRequest(artifact, repositories, context);
             versionRangeRequest.setTrace(trace);
@@ -194,8 +257,8 @@ public class ModelResolverImpl implements ModelResolver {
     @Override
     public ModelSource resolveModel(final Dependency dependency) throws UnresolvableModelException {
         try {
-            final Artifact artifact = new DefaultArtifact(
-                    dependency.getGroupId(), dependency.getArtifactId(), "", "pom", dependency.getVersion());
+            final Artifact artifact =
+                    pomArtifact(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion());
 
             final VersionRangeRequest versionRangeRequest = new VersionRangeRequest(artifact, repositories, context);
             versionRangeRequest.setTrace(trace);
@@ -8,21 +8,35 @@
 package eu.maveniverse.maven.mima.extensions.mmr;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import eu.maveniverse.maven.mima.context.Context;
 import eu.maveniverse.maven.mima.context.ContextOverrides;
 import eu.maveniverse.maven.mima.context.Runtimes;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.apache.maven.model.io.xpp3.MavenXpp3Writer;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.repository.ArtifactRepository;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.resolution.ArtifactDescriptorResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -105,4 +119,113 @@ public class MavenModelReaderTest {
             assertEquals(74, result.getManagedDependencies().size());
         }
     }
+
+    @Test
+    void cached(@TempDir Path persistentDirectory) throws Exception {
+        try (Context context =
+                Runtimes.INSTANCE.getRuntime().create(ContextOverrides.create().build())) {
+            ModelRequest request = ModelRequest.builder()
+                    .setArtifact(new DefaultArtifact("org.apache.maven:maven-core:3.9.9"))
+                    .setRequestContext("test")
+                    .build();
+
+            Model uncached = new MavenModelReader(context).readModel(request).getEffectiveModel();
+            MavenModelReader reader =
+                    new MavenModelReader(context, new MavenModelCache(context, 100, persistentDirectory));
+            for (int i = 0; i < 2; i++) {
+                Model model = reader.readModel(request).getEffectiveModel();
+                assertEquals(
+                        uncached.getDependencies().size(),
+                        model.getDependencies().size());
+                assertEquals(
+                        uncached.getDependencyManagement().getDependencies().size(),
+                        model.getDependencyManagement().getDependencies().size());
+            }
+            assertTrue(countFiles(persistentDirectory) > 0);
+
+            // new cache instance: persisted entries are the only source, so tampered ones are used
+            try (Stream<Path> files = Files.walk(persistentDirectory)) {
+                for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                    tamper(file);
+                }
+            }
+            Model model = new MavenModelReader(context, new MavenModelCache(context, 100, persistentDirectory))
+                    .readModel(request)
+                    .getEffectiveModel();
+            assertTrue(model.getDependencyManagement().getDependencies().stream()
+                    .anyMatch(d -> "tampered".equals(d.getArtifactId())));
+        }
+
+        // different properties: persisted entries are not used
+        try (Context context = Runtimes.INSTANCE
+                .getRuntime()
+                .create(ContextOverrides.create()
+                        .userProperties(Collections.singletonMap("example", "other"))
+                        .build())) {
+            ModelRequest request = ModelRequest.builder()
+                    .setArtifact(new DefaultArtifact("org.apache.maven:maven-core:3.9.9"))
+                    .setRequestContext("test")
+                    .build();
+            Model model = new MavenModelReader(context, new MavenModelCache(context, 100, persistentDirectory))
+                    .readModel(request)
+                    .getEffectiveModel();
+            assertFalse(model.getDependencyManagement().getDependencies().stream()
+                    .anyMatch(d -> "tampered".equals(d.getArtifactId())));
+        }
+    }
+
+    private static void tamper(Path file) throws Exception {
+        Model model;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            model = new MavenXpp3Reader().read(inputStream, false);
+        }
+        Dependency dependency = new Dependency();
+        dependency.setGroupId("org.example");
+        dependency.setArtifactId("tampered");
+        dependency.setVersion("1.0");
+        model.getDependencyManagement().addDependency(dependency);
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            new MavenXpp3Writer().write(outputStream, model);
+        }
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Test
+    void batch() throws Exception {
+        try (Context context =
+                Runtimes.INSTANCE.getRuntime().create(ContextOverrides.create().build())) {
+            MavenModelReader reader = new MavenModelReader(context);
+            List<ModelRequest> requests = Arrays.asList(
+                    ModelRequest.builder()
+                            .setArtifact(new DefaultArtifact("org.apache.maven:maven-core:3.9.9"))
+                            .build(),
+                    ModelRequest.builder()
+                            .setArtifact(new DefaultArtifact("org.apache.maven:maven-model:3.9.9"))
+                            .build(),
+                    ModelRequest.builder()
+                            .setArtifact(new DefaultArtifact("org.apache.maven:maven-settings:3.9.9"))
+                            .build(),
+                    ModelRequest.builder()
+                            .setArtifact(new DefaultArtifact("org.apache.maven:non-existent:3.9.9"))
+                            .build());
+
+            List<ModelResult> results = reader.readModels(requests, 3);
+            assertEquals(requests.size(), results.size());
+            for (int i = 0; i < 3; i++) {
+                ModelResult result = results.get(i);
+                assertTrue(result.isSuccess());
+                assertEquals(requests.get(i), result.getRequest());
+                assertEquals(
+                        requests.get(i).getArtifact().getArtifactId(),
+                        result.getResponse().getEffectiveModel().getArtifactId());
+            }
+            assertFalse(results.get(3).isSuccess());
+            assertNotNull(results.get(3).getException());
+        }
+    }
 }
@@ -13,6 +13,7 @@ import eu.maveniverse.maven.mima.context.ContextOverrides;
 import eu.maveniverse.maven.mima.context.MavenUserHome;
 import eu.maveniverse.maven.mima.context.internal.MavenSystemHomeImpl;
 import eu.maveniverse.maven.mima.context.internal.MavenUserHomeImpl;
+import eu.maveniverse.maven.mima.context.internal.StartupRecorder;
 import java.nio.file.Path;
 
 /**
@@ -30,15 +31,32 @@ public final class PreBoot {
 
     private final Path baseDir;
 
+    private final StartupRecorder startupRecorder;
+
     public PreBoot(
             ContextOverrides overrides,
             MavenUserHomeImpl mavenUserHome,
             MavenSystemHomeImpl mavenSystemHome,
             Path baseDir) {
+        this(overrides, mavenUserHome, mavenSystemHome, baseDir, new StartupRecorder());
+    }
+
+    /**
+     * Creates instance with passed in recorder of startup phases.
+     *
+     * @since 2.4.47
+     */
+    public PreBoot(
+            ContextOverrides overrides,
+            MavenUserHomeImpl mavenUserHome,
+            MavenSystemHomeImpl mavenSystemHome,
+            Path baseDir,
+            StartupRecorder startupRecorder) {
         this.overrides = requireNonNull(overrides);
         this.mavenUserHome = requireNonNull(mavenUserHome);
         this.mavenSystemHome = mavenSystemHome; // nullable
         this.baseDir = requireNonNull(baseDir);
+        this.startupRecorder = requireNonNull(startupRecorder);
     }
 
     public ContextOverrides getOverrides() {
@@ -56,4 +74,13 @@ public final class PreBoot {
     public Path getBaseDir() {
         return baseDir;
     }
+
+    /**
+     * Returns the recorder of startup phases of context being created.
+     *
+     * @since 2.4.47
+     */
+    public StartupRecorder getStartupRecorder() {
+        return startupRecorder;
+    }
 }
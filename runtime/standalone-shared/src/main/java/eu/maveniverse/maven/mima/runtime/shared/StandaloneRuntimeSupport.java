@@ -15,9 +15,15 @@ import eu.maveniverse.maven.mima.context.HTTPProxy;
 import eu.maveniverse.maven.mima.context.Lookup;
 import eu.maveniverse.maven.mima.context.MavenSystemHome;
 import eu.maveniverse.maven.mima.context.MavenUserHome;
+import eu.maveniverse.maven.mima.context.StartupTimings;
 import eu.maveniverse.maven.mima.context.internal.MavenSystemHomeImpl;
 import eu.maveniverse.maven.mima.context.internal.MavenUserHomeImpl;
 import eu.maveniverse.maven.mima.context.internal.RuntimeSupport;
+import eu.maveniverse.maven.mima.context.internal.StartupRecorder;
+import eu.maveniverse.maven.mima.runtime.shared.internal.CachingSettingsDecrypter;
+import eu.maveniverse.maven.mima.runtime.shared.internal.FileFingerprint;
+import eu.maveniverse.maven.mima.runtime.shared.internal.SessionTemplate;
+import eu.maveniverse.maven.mima.runtime.shared.internal.SettingsCache;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.AbstractMap;
@@ -28,6 +34,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.maven.model.ActivationFile;
@@ -39,40 +46,70 @@ import org.apache.maven.repository.internal.MavenRepositorySystemUtils;
 import org.apache.maven.settings.Activation;
 import org.apache.maven.settings.ActivationOS;
 import org.apache.maven.settings.ActivationProperty;
-import org.apache.maven.settings.Mirror;
 import org.apache.maven.settings.Profile;
 import org.apache.maven.settings.Proxy;
 import org.apache.maven.settings.Repository;
-import org.apache.maven.settings.Server;
 import org.apache.maven.settings.Settings;
 import org.apache.maven.settings.TrackableBase;
 import org.apache.maven.settings.building.DefaultSettingsBuildingRequest;
 import org.apache.maven.settings.building.SettingsBuilder;
 import org.apache.maven.settings.building.SettingsBuildingException;
 import org.apache.maven.settings.building.SettingsProblem;
-import org.apache.maven.settings.crypto.DefaultSettingsDecryptionRequest;
 import org.apache.maven.settings.crypto.SettingsDecrypter;
-import org.apache.maven.settings.crypto.SettingsDecryptionResult;
 import org.apache.maven.settings.merge.MavenSettingsMerger;
-import org.codehaus.plexus.util.xml.Xpp3Dom;
 import org.eclipse.aether.ConfigurationProperties;
-import org.eclipse.aether.DefaultRepositoryCache;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.RepositoryPolicy;
+import org.eclipse.aether.util.ConfigUtils;
 import org.eclipse.aether.util.artifact.DefaultArtifactTypeRegistry;
-import org.eclipse.aether.util.repository.AuthenticationBuilder;
-import org.eclipse.aether.util.repository.DefaultAuthenticationSelector;
-import org.eclipse.aether.util.repository.DefaultMirrorSelector;
-import org.eclipse.aether.util.repository.DefaultProxySelector;
 import org.eclipse.aether.util.repository.SimpleResolutionErrorPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public abstract class StandaloneRuntimeSupport extends RuntimeSupport {
+    /**
+     * Configuration property to enable or disable process-wide caching of effective settings (default {@code false}).
+     * When enabled, settings are built only when content of global or user settings files changes or when values of
+     * system or user properties referred to by settings files differ.
+     *
+     * @since 2.4.47
+     */
+    public static final String CONFIG_PROP_SETTINGS_CACHE = "mima.settings.cache";
+
+    /**
+     * Configuration property to enable or disable caching of decrypted server and proxy credentials (default
+     * {@code false}). Cached values are keyed by encrypted values and settings security file fingerprint. The cache is
+     * held by runtime only while there are open contexts created with it enabled, and is cleared when last of them is
+     * closed.
+     *
+     * @since 2.4.47
+     */
+    public static final String CONFIG_PROP_DECRYPTION_CACHE = "mima.settings.decryptionCache";
+
+    /**
+     * Configuration property to enable or disable caching of session templates (default {@code false}). A session
+     * template holds mirror, proxy and authentication selectors (with decrypted credentials) and server derived
+     * configuration, and is reused when settings come unmodified from settings cache (see
+     * {@link #CONFIG_PROP_SETTINGS_CACHE}). Same as for {@link #CONFIG_PROP_DECRYPTION_CACHE}, the cache is held by
+     * runtime only while there are open contexts created with it enabled, and is cleared when last of them is closed.
+     *
+     * @since 2.4.47
+     */
+    public static final String CONFIG_PROP_SESSION_TEMPLATE_CACHE = "mima.settings.sessionTemplateCache";
+
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
+    private final CachingSettingsDecrypter.Cache decryptionCache = new CachingSettingsDecrypter.Cache();
+
+    private final SessionTemplate.Cache sessionTemplateCache = new SessionTemplate.Cache();
+
+    /**
+     * Count of open contexts using caches holding decrypted credentials.
+     */
+    private final AtomicInteger credentialCachesUsers = new AtomicInteger();
+
     protected StandaloneRuntimeSupport(String name, int priority) {
         super(name, discoverVersion(), priority, discoverMavenVersion(), discoverResolverVersion());
     }
@@ -89,6 +126,8 @@ public abstract class StandaloneRuntimeSupport extends RuntimeSupport {
     }
 
     protected PreBoot preBoot(ContextOverrides overrides) {
+        StartupRecorder recorder = new StartupRecorder();
+        long start = recorder.start();
         Map<String, String> systemProperties = defaultSystemProperties();
         systemProperties.putAll(overrides.getSystemProperties());
         Map<String, String> userProperties = new HashMap<>(overrides.getUserProperties());
@@ -128,7 +167,9 @@ public abstract class StandaloneRuntimeSupport extends RuntimeSupport {
         Path baseDir =
                 alteredOverrides.getBasedirOverride() != null ? alteredOverrides.getBasedirOverride() : DEFAULT_BASEDIR;
 
-        return new PreBoot(alteredOverrides, mavenUserHomeImpl, mavenSystemHomeImpl, baseDir);
+        PreBoot preBoot = new PreBoot(alteredOverrides, mavenUserHomeImpl, mavenSystemHomeImpl, baseDir, recorder);
+        recorder.record(StartupTimings.PRE_BOOT, start);
+        return preBoot;
     }
 
     protected Context buildContext(
@@ -140,14 +181,23 @@ public abstract class StandaloneRuntimeSupport extends RuntimeSupport {
             ProfileSelector profileSelector,
             Lookup lookup,
             Runnable managedCloser) {
+        Map<String, Object> configProperties = preBoot.getOverrides().getConfigProperties();
+        boolean credentialCachesRetained = ConfigUtils.getBoolean(configProperties, false, CONFIG_PROP_DECRYPTION_CACHE)
+                || ConfigUtils.getBoolean(configProperties, false, CONFIG_PROP_SESSION_TEMPLATE_CACHE);
+        if (credentialCachesRetained) {
+            credentialCachesUsers.incrementAndGet();
+        }
         try {
             ContextOverrides alteredOverrides = preBoot.getOverrides();
             MavenUserHomeImpl mavenUserHomeImpl = preBoot.getMavenUserHome();
             MavenSystemHomeImpl mavenSystemHomeImpl = preBoot.getMavenSystemHome();
             Path baseDir = preBoot.getBaseDir();
+            StartupRecorder recorder = preBoot.getStartupRecorder();
 
+            long start = recorder.start();
             Settings settings =
                     newEffectiveSettings(alteredOverrides, mavenUserHomeImpl, mavenSystemHomeImpl, settingsBuilder);
+            recorder.record(StartupTimings.SETTINGS, start);
 
             // settings: local repository
             if (settings.getLocalRepository() != null && alteredOverrides.getLocalRepositoryOverride() == null) {
@@ -163,6 +213,7 @@ public abstract class StandaloneRuntimeSupport extends RuntimeSupport {
             }
 
             // settings: active profiles
+            start = recorder.start();
             List<Profile> activeProfiles =
                     activeProfilesByActivation(alteredOverrides, baseDir, settings, profileSelector);
             if (!activeProfiles.isEmpty()) {
@@ -190,9 +241,10 @@ public abstract class StandaloneRuntimeSupport extends RuntimeSupport {
                         .userProperties(profileUserProperties)
                         .build();
             }
+            recorder.record(StartupTimings.PROFILES, start);
 
             DefaultRepositorySystemSession session = newRepositorySession(
-                    alteredOverrides, mavenUserHomeImpl, repositorySystem, settings, settingsDecrypter);
+                    alteredOverrides, mavenUserHomeImpl, repositorySystem, settings, settingsDecrypter, recorder);
 
             // settings: active profile repositories (if enabled), strictly preserve order
             final LinkedHashMap<String, RemoteRepository> remoteRepositories = new LinkedHashMap<>();
@@ -233,7 +285,9 @@ public abstract class StandaloneRuntimeSupport extends RuntimeSupport {
             alteredOverrides = alteredOverrides.toBuilder()
                     .repositories(new ArrayList<>(remoteRepositories.values()))
                     .build();
-            return new Context(
+            StartupTimings startupTimings = recorder.build();
+            logger.debug("Context created: {}", startupTimings);
+            Context context = new Context(
                     runtime,
                     alteredOverrides,
                     baseDir,
@@ -243,9 +297,26 @@ public abstract class StandaloneRuntimeSupport extends RuntimeSupport {
                     session,
                     httpProxy,
                     lookup,
-                    managedCloser);
+                    managedCloser,
+                    startupTimings);
+            if (credentialCachesRetained) {
+                context.addCloseHandler(this::releaseCredentialCaches);
+                credentialCachesRetained = false;
+            }
+            return contextCreated(context);
         } catch (Exception e) {
             throw new IllegalStateException("Cannot create context from scratch", e);
+        } finally {
+            if (credentialCachesRetained) {
+                releaseCredentialCaches();
+            }
+        }
+    }
+
+    private void releaseCredentialCaches() {
+        if (credentialCachesUsers.decrementAndGet() == 0) {
+            decryptionCache.clear();
+            sessionTemplateCache.clear();
         }
     }
 
@@ -285,7 +356,31 @@ public abstract class StandaloneRuntimeSupport extends RuntimeSupport {
                     mavenSystemHome.settingsXml().toFile());
         }
         settingsBuilderRequest.setUserSettingsFile(mavenUserHome.settingsXml().toFile());
-        Settings result = settingsBuilder.build(settingsBuilderRequest).getEffectiveSettings();
+        Settings result;
+        if (ConfigUtils.getBoolean(overrides.getConfigProperties(), false, CONFIG_PROP_SETTINGS_CACHE)) {
+            FileFingerprint globalSettingsXml =
+                    FileFingerprint.of(mavenSystemHome != null ? mavenSystemHome.settingsXml() : null);
+            FileFingerprint userSettingsXml = FileFingerprint.of(mavenUserHome.settingsXml());
+            List<Object> key = SettingsCache.key(
+                    settingsBuilder.getClass().getName(),
+                    globalSettingsXml,
+                    userSettingsXml,
+                    SettingsCache.properties(
+                            overrides.getSystemProperties(),
+                            overrides.getUserProperties(),
+                            globalSettingsXml,
+                            userSettingsXml));
+            result = SettingsCache.INSTANCE.get(key);
+            if (result == null) {
+                result = settingsBuilder.build(settingsBuilderRequest).getEffectiveSettings();
+                SettingsCache.INSTANCE.put(key, result);
+            }
+            if (!(overrides.getEffectiveSettingsMixin() instanceof Settings)) {
+                SettingsCache.INSTANCE.track(result, key);
+            }
+        } else {
+            result = settingsBuilder.build(settingsBuilderRequest).getEffectiveSettings();
+        }
         if (overrides.getEffectiveSettingsMixin() instanceof Settings) {
             settingsMixin(result, (Settings) overrides.getEffectiveSettingsMixin());
         }
@@ -367,6 +462,24 @@ public abstract class StandaloneRuntimeSupport extends RuntimeSupport {
             RepositorySystem repositorySystem,
             Settings settings,
             SettingsDecrypter settingsDecrypter) {
+        return newRepositorySession(
+                overrides, mavenUserHome, repositorySystem, settings, settingsDecrypter, new StartupRecorder());
+    }
+
+    /**
+     * Creates new session, recording durations of {@link StartupTimings#SESSION} and
+     * {@link StartupTimings#LOCAL_REPOSITORY_MANAGER} phases.
+     *
+     * @since 2.4.47
+     */
+    protected DefaultRepositorySystemSession newRepositorySession(
+            ContextOverrides overrides,
+            MavenUserHome mavenUserHome,
+            RepositorySystem repositorySystem,
+            Settings settings,
+            SettingsDecrypter settingsDecrypter,
+            StartupRecorder recorder) {
+        long start = recorder.start();
         DefaultRepositorySystemSession session = MavenRepositorySystemUtils.newSession();
 
         if (!overrides.extraArtifactTypes().isEmpty()) {
@@ -374,7 +487,7 @@ public abstract class StandaloneRuntimeSupport extends RuntimeSupport {
             overrides.extraArtifactTypes().forEach(registry::add);
         }
 
-        session.setCache(new DefaultRepositoryCache());
+        session.setCache(newRepositoryCache(overrides));
 
         LinkedHashMap<Object, Object> configProps = new LinkedHashMap<>(overrides.getConfigProperties());
         configProps.putIfAbsent(ConfigurationProperties.USER_AGENT, getUserAgent());
@@ -396,125 +509,59 @@ public abstract class StandaloneRuntimeSupport extends RuntimeSupport {
         // we should not interfere with "real Maven"
         session.setResolutionErrorPolicy(new SimpleResolutionErrorPolicy(false, false));
 
-        DefaultSettingsDecryptionRequest decrypt = new DefaultSettingsDecryptionRequest();
-        decrypt.setProxies(settings.getProxies());
-        decrypt.setServers(settings.getServers());
-        SettingsDecryptionResult decrypted = settingsDecrypter.decrypt(decrypt);
-
+        SessionTemplate template = newSessionTemplate(overrides, mavenUserHome, settings, settingsDecrypter);
         if (logger.isDebugEnabled()) {
-            for (SettingsProblem problem : decrypted.getProblems()) {
+            for (SettingsProblem problem : template.getProblems()) {
                 logger.debug(problem.getMessage(), problem.getException());
             }
         }
-
-        DefaultMirrorSelector mirrorSelector = new DefaultMirrorSelector();
-        for (Mirror mirror : settings.getMirrors()) {
-            mirrorSelector.add(
-                    mirror.getId(),
-                    mirror.getUrl(),
-                    mirror.getLayout(),
-                    false,
-                    mirror.isBlocked(),
-                    mirror.getMirrorOf(),
-                    mirror.getMirrorOfLayouts());
-        }
-        session.setMirrorSelector(mirrorSelector);
-
-        DefaultProxySelector proxySelector = new DefaultProxySelector();
-        for (Proxy proxy : decrypted.getProxies()) {
-            AuthenticationBuilder authBuilder = new AuthenticationBuilder();
-            authBuilder.addUsername(proxy.getUsername()).addPassword(proxy.getPassword());
-            proxySelector.add(
-                    new org.eclipse.aether.repository.Proxy(
-                            proxy.getProtocol(), proxy.getHost(), proxy.getPort(), authBuilder.build()),
-                    proxy.getNonProxyHosts());
-        }
-        session.setProxySelector(proxySelector);
-
-        DefaultAuthenticationSelector authSelector = new DefaultAuthenticationSelector();
-        for (Server server : decrypted.getServers()) {
-            AuthenticationBuilder authBuilder = new AuthenticationBuilder();
-            authBuilder.addUsername(server.getUsername()).addPassword(server.getPassword());
-            authBuilder.addPrivateKey(server.getPrivateKey(), server.getPassphrase());
-            authSelector.add(server.getId(), authBuilder.build());
-
-            if (server.getConfiguration() != null) {
-                Xpp3Dom dom = (Xpp3Dom) server.getConfiguration();
-                for (int i = dom.getChildCount() - 1; i >= 0; i--) {
-                    Xpp3Dom child = dom.getChild(i);
-                    if ("wagonProvider".equals(child.getName())) {
-                        dom.removeChild(i);
-                    }
-                }
-
-                // stash config entries just like Maven does
-                configProps.put("aether.connector.wagon.config." + server.getId(), dom);
-
-                // Translate to proper resolver configuration properties as well (as Plexus XML above is Wagon specific
-                // only), but support only configuration/httpConfiguration/all, see
-                // https://maven.apache.org/guides/mini/guide-http-settings.html
-                Map<String, String> headers = null;
-                Integer connectTimeout = null;
-                Integer requestTimeout = null;
-
-                Xpp3Dom httpHeaders = dom.getChild("httpHeaders");
-                if (httpHeaders != null) {
-                    Xpp3Dom[] properties = httpHeaders.getChildren("property");
-                    if (properties != null && properties.length > 0) {
-                        headers = new HashMap<>();
-                        for (Xpp3Dom property : properties) {
-                            headers.put(
-                                    property.getChild("name").getValue(),
-                                    property.getChild("value").getValue());
-                        }
-                    }
-                }
-
-                Xpp3Dom connectTimeoutXml = dom.getChild("connectTimeout");
-                if (connectTimeoutXml != null) {
-                    connectTimeout = Integer.parseInt(connectTimeoutXml.getValue());
-                }
-
-                Xpp3Dom requestTimeoutXml = dom.getChild("requestTimeout");
-                if (requestTimeoutXml != null) {
-                    requestTimeout = Integer.parseInt(requestTimeoutXml.getValue());
-                }
-
-                // org.eclipse.aether.ConfigurationProperties.HTTP_HEADERS => Map<String, String>
-                if (headers != null) {
-                    configProps.put(ConfigurationProperties.HTTP_HEADERS + "." + server.getId(), headers);
-                }
-                // org.eclipse.aether.ConfigurationProperties.CONNECT_TIMEOUT => int
-                if (connectTimeout != null) {
-                    configProps.put(ConfigurationProperties.CONNECT_TIMEOUT + "." + server.getId(), connectTimeout);
-                }
-                // org.eclipse.aether.ConfigurationProperties.REQUEST_TIMEOUT => int
-                if (requestTimeout != null) {
-                    configProps.put(ConfigurationProperties.REQUEST_TIMEOUT + "." + server.getId(), requestTimeout);
-                }
-            }
-
-            configProps.put("aether.connector.perms.fileMode." + server.getId(), server.getFilePermissions());
-            configProps.put("aether.connector.perms.dirMode." + server.getId(), server.getDirectoryPermissions());
-        }
-        session.setAuthenticationSelector(authSelector);
+        session.setMirrorSelector(template.getMirrorSelector());
+        session.setProxySelector(template.getProxySelector());
+        session.setAuthenticationSelector(template.getAuthenticationSelector());
+        configProps.putAll(template.getConfigProperties());
 
         session.setSystemProperties(overrides.getSystemProperties());
         session.setUserProperties(overrides.getUserProperties());
         session.setConfigProperties(configProps);
 
-        if (overrides.getTransferListener() != null) {
-            session.setTransferListener(overrides.getTransferListener());
-        }
-        if (overrides.getRepositoryListener() != null) {
-            session.setRepositoryListener(overrides.getRepositoryListener());
-        }
+        customizeListeners(overrides, session, null);
+
+        customizeInterner(overrides, session);
+
+        recorder.record(StartupTimings.SESSION, start);
 
+        start = recorder.start();
         newLocalRepositoryManager(mavenUserHome.localRepository(), repositorySystem, session);
+        recorder.record(StartupTimings.LOCAL_REPOSITORY_MANAGER, start);
 
         return session;
     }
 
+    /**
+     * Returns the session template for given settings. When settings are unmodified cached settings, the template is
+     * built once and reused, otherwise it is built from scratch.
+     */
+    protected SessionTemplate newSessionTemplate(
+            ContextOverrides overrides,
+            MavenUserHome mavenUserHome,
+            Settings settings,
+            SettingsDecrypter settingsDecrypter) {
+        FileFingerprint settingsSecurityXml = FileFingerprint.of(mavenUserHome.settingsSecurityXml());
+        String settingsDecrypterName = settingsDecrypter.getClass().getName();
+        if (ConfigUtils.getBoolean(overrides.getConfigProperties(), false, CONFIG_PROP_DECRYPTION_CACHE)) {
+            settingsDecrypter = new CachingSettingsDecrypter(settingsDecrypter, settingsSecurityXml, decryptionCache);
+        }
+        List<Object> settingsKey = SettingsCache.INSTANCE.keyOf(settings);
+        if (settingsKey != null
+                && ConfigUtils.getBoolean(overrides.getConfigProperties(), false, CONFIG_PROP_SESSION_TEMPLATE_CACHE)) {
+            SettingsDecrypter decrypter = settingsDecrypter;
+            return sessionTemplateCache.get(
+                    SettingsCache.key(settingsKey, settingsSecurityXml, settingsDecrypterName),
+                    () -> SessionTemplate.create(settings, decrypter));
+        }
+        return SessionTemplate.create(settings, settingsDecrypter);
+    }
+
     protected String getUserAgent() {
         return "Apache-Maven/" + mavenVersion() + " (Java " + System.getProperty("java.version") + "; "
                 + System.getProperty("os.name") + " " + System.getProperty("os.version") + "; MIMA " + version() + ")";
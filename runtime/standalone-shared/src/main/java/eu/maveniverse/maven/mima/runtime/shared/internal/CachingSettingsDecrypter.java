@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.runtime.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.maven.settings.Proxy;
+import org.apache.maven.settings.Server;
+import org.apache.maven.settings.building.SettingsProblem;
+import org.apache.maven.settings.crypto.DefaultSettingsDecryptionRequest;
+import org.apache.maven.settings.crypto.SettingsDecrypter;
+import org.apache.maven.settings.crypto.SettingsDecryptionRequest;
+import org.apache.maven.settings.crypto.SettingsDecryptionResult;
+
+/**
+ * Memoizing {@link SettingsDecrypter} decorator. Decryption outcome of each server and proxy entry is cached in passed
+ * in {@link Cache}, keyed by the encrypted values and the fingerprint of settings security file, so same credentials
+ * are decrypted only once. Entries whose decryption reported problems are not cached, to have problems reported every
+ * time.
+ */
+public final class CachingSettingsDecrypter implements SettingsDecrypter {
+    /**
+     * Bounded cache of decrypted values. As it holds plaintext credentials, its owner should keep it only as long as
+     * needed, and {@link #clear()} it once not needed anymore.
+     */
+    public static final class Cache {
+        private static final int MAX_ENTRIES = 256;
+
+        private final LinkedHashMap<List<Object>, String[]> cache =
+                new LinkedHashMap<List<Object>, String[]>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<List<Object>, String[]> eldest) {
+                        return size() > MAX_ENTRIES;
+                    }
+                };
+
+        private synchronized String[] get(List<Object> key) {
+            return cache.get(key);
+        }
+
+        private synchronized void put(List<Object> key, String[] decrypted) {
+            cache.put(key, decrypted);
+        }
+
+        /**
+         * Returns the count of cached entries.
+         */
+        public synchronized int size() {
+            return cache.size();
+        }
+
+        /**
+         * Clears the cache.
+         */
+        public synchronized void clear() {
+            cache.clear();
+        }
+    }
+
+    private final SettingsDecrypter delegate;
+
+    private final FileFingerprint settingsSecurityXml;
+
+    private final Cache cache;
+
+    public CachingSettingsDecrypter(SettingsDecrypter delegate, FileFingerprint settingsSecurityXml, Cache cache) {
+        this.delegate = requireNonNull(delegate);
+        this.settingsSecurityXml = requireNonNull(settingsSecurityXml);
+        this.cache = requireNonNull(cache);
+    }
+
+    @Override
+    public SettingsDecryptionResult decrypt(SettingsDecryptionRequest request) {
+        ArrayList<SettingsProblem> problems = new ArrayList<>();
+
+        ArrayList<Server> servers = new ArrayList<>();
+        for (Server server : request.getServers()) {
+            List<Object> key = key("server", server.getPassword(), server.getPassphrase());
+            String[] decrypted = cache.get(key);
+            if (decrypted == null) {
+                SettingsDecryptionResult result = delegate.decrypt(new DefaultSettingsDecryptionRequest(server));
+                Server decryptedServer = result.getServer();
+                decrypted = new String[] {decryptedServer.getPassword(), decryptedServer.getPassphrase()};
+                if (result.getProblems().isEmpty()) {
+                    cache.put(key, decrypted);
+                } else {
+                    problems.addAll(result.getProblems());
+                }
+            }
+            Server copy = server.clone();
+            copy.setPassword(decrypted[0]);
+            copy.setPassphrase(decrypted[1]);
+            servers.add(copy);
+        }
+
+        ArrayList<Proxy> proxies = new ArrayList<>();
+        for (Proxy proxy : request.getProxies()) {
+            List<Object> key = key("proxy", proxy.getPassword());
+            String[] decrypted = cache.get(key);
+            if (decrypted == null) {
+                SettingsDecryptionResult result = delegate.decrypt(new DefaultSettingsDecryptionRequest(proxy));
+                decrypted = new String[] {result.getProxy().getPassword()};
+                if (result.getProblems().isEmpty()) {
+                    cache.put(key, decrypted);
+                } else {
+                    problems.addAll(result.getProblems());
+                }
+            }
+            Proxy copy = proxy.clone();
+            copy.setPassword(decrypted[0]);
+            proxies.add(copy);
+        }
+
+        return new Result(servers, proxies, problems);
+    }
+
+    private List<Object> key(String kind, String... encrypted) {
+        ArrayList<Object> key = new ArrayList<>();
+        key.add(delegate.getClass().getName());
+        key.add(settingsSecurityXml);
+        key.add(kind);
+        key.addAll(Arrays.asList(encrypted));
+        return key;
+    }
+
+    private static final class Result implements SettingsDecryptionResult {
+        private final List<Server> servers;
+        private final List<Proxy> proxies;
+        private final List<SettingsProblem> problems;
+
+        private Result(List<Server> servers, List<Proxy> proxies, List<SettingsProblem> problems) {
+            this.servers = Collections.unmodifiableList(servers);
+            this.proxies = Collections.unmodifiableList(proxies);
+            this.problems = Collections.unmodifiableList(problems);
+        }
+
+        @Override
+        public Server getServer() {
+            return servers.isEmpty() ? null : servers.get(0);
+        }
+
+        @Override
+        public List<Server> getServers() {
+            return servers;
+        }
+
+        @Override
+        public Proxy getProxy() {
+            return proxies.isEmpty() ? null : proxies.get(0);
+        }
+
+        @Override
+        public List<Proxy> getProxies() {
+            return proxies;
+        }
+
+        @Override
+        public List<SettingsProblem> getProblems() {
+            return problems;
+        }
+    }
+}
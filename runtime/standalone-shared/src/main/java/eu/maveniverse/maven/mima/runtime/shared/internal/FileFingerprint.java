@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.runtime.shared.internal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fingerprint of a (small) configuration file: its path and the digest of its content, along with names of property
+ * expressions (ie. {@code ${name}}) found in content. Non-existent (or unreadable) files have no digest. Two
+ * fingerprints are equal if the file content did not change between them, as content is compared, not file size or
+ * last modification time, that may remain same on edits.
+ */
+public final class FileFingerprint {
+    private static final Pattern EXPRESSION = Pattern.compile("\\$\\{([^}]+)}");
+
+    private final Path path;
+    private final byte[] digest;
+    private final Set<String> expressions;
+
+    private FileFingerprint(Path path, byte[] digest, Set<String> expressions) {
+        this.path = path;
+        this.digest = digest;
+        this.expressions = expressions;
+    }
+
+    /**
+     * Creates fingerprint of given file, that may be {@code null}.
+     */
+    public static FileFingerprint of(Path path) {
+        if (path == null) {
+            return new FileFingerprint(null, null, Collections.emptySet());
+        }
+        try {
+            byte[] content = Files.readAllBytes(path);
+            TreeSet<String> expressions = new TreeSet<>();
+            Matcher matcher = EXPRESSION.matcher(new String(content, StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                expressions.add(matcher.group(1).trim());
+            }
+            return new FileFingerprint(
+                    path, MessageDigest.getInstance("SHA-1").digest(content), Collections.unmodifiableSet(expressions));
+        } catch (IOException e) {
+            return new FileFingerprint(path, null, Collections.emptySet());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not supported", e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public boolean exists() {
+        return digest != null;
+    }
+
+    /**
+     * Returns the names of property expressions found in file content, never {@code null}.
+     */
+    public Set<String> getExpressions() {
+        return expressions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FileFingerprint that = (FileFingerprint) o;
+        return Arrays.equals(digest, that.digest) && Objects.equals(path, that.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(path) + Arrays.hashCode(digest);
+    }
+
+    @Override
+    public String toString() {
+        return path + " (exists=" + exists() + ")";
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.runtime.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.maven.settings.Mirror;
+import org.apache.maven.settings.Proxy;
+import org.apache.maven.settings.Server;
+import org.apache.maven.settings.Settings;
+import org.apache.maven.settings.building.SettingsProblem;
+import org.apache.maven.settings.crypto.DefaultSettingsDecryptionRequest;
+import org.apache.maven.settings.crypto.SettingsDecrypter;
+import org.apache.maven.settings.crypto.SettingsDecryptionResult;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.eclipse.aether.ConfigurationProperties;
+import org.eclipse.aether.repository.AuthenticationSelector;
+import org.eclipse.aether.repository.MirrorSelector;
+import org.eclipse.aether.repository.ProxySelector;
+import org.eclipse.aether.util.repository.AuthenticationBuilder;
+import org.eclipse.aether.util.repository.DefaultAuthenticationSelector;
+import org.eclipse.aether.util.repository.DefaultMirrorSelector;
+import org.eclipse.aether.util.repository.DefaultProxySelector;
+
+/**
+ * Immutable session template: the settings derived parts of repository system session, that are mirror, proxy and
+ * authentication selectors and the server derived configuration properties. Building a template requires decryption
+ * of settings and iteration over all mirrors, proxies and servers, so templates built from unmodified cached settings
+ * may be cached as well (see {@link Cache}), and are applied to new sessions. Selectors are immutable and are shared,
+ * while mutable configuration property values are copied for each session.
+ */
+public final class SessionTemplate {
+    /**
+     * Bounded cache of templates. As templates hold decrypted credentials, owner should clear it once not in use.
+     */
+    public static final class Cache {
+        private static final int MAX_ENTRIES = 32;
+
+        private final LinkedHashMap<List<Object>, SessionTemplate> cache =
+                new LinkedHashMap<List<Object>, SessionTemplate>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<List<Object>, SessionTemplate> eldest) {
+                        return size() > MAX_ENTRIES;
+                    }
+                };
+
+        /**
+         * Returns cached template for given key, building and caching it using passed in supplier, if needed.
+         */
+        public SessionTemplate get(List<Object> key, Supplier<SessionTemplate> supplier) {
+            requireNonNull(key);
+            requireNonNull(supplier);
+            SessionTemplate template;
+            synchronized (this) {
+                template = cache.get(key);
+            }
+            if (template == null) {
+                template = supplier.get();
+                synchronized (this) {
+                    SessionTemplate existing = cache.putIfAbsent(key, template);
+                    if (existing != null) {
+                        template = existing;
+                    }
+                }
+            }
+            return template;
+        }
+
+        /**
+         * Returns the count of cached entries.
+         */
+        public synchronized int size() {
+            return cache.size();
+        }
+
+        /**
+         * Clears the cache.
+         */
+        public synchronized void clear() {
+            cache.clear();
+        }
+    }
+
+    private final MirrorSelector mirrorSelector;
+
+    private final ProxySelector proxySelector;
+
+    private final AuthenticationSelector authenticationSelector;
+
+    private final Map<String, Object> configProperties;
+
+    private final List<SettingsProblem> problems;
+
+    private SessionTemplate(
+            MirrorSelector mirrorSelector,
+            ProxySelector proxySelector,
+            AuthenticationSelector authenticationSelector,
+            Map<String, Object> configProperties,
+            List<SettingsProblem> problems) {
+        this.mirrorSelector = requireNonNull(mirrorSelector);
+        this.proxySelector = requireNonNull(proxySelector);
+        this.authenticationSelector = requireNonNull(authenticationSelector);
+        this.configProperties = Collections.unmodifiableMap(configProperties);
+        this.problems = Collections.unmodifiableList(new ArrayList<>(problems));
+    }
+
+    public MirrorSelector getMirrorSelector() {
+        return mirrorSelector;
+    }
+
+    public ProxySelector getProxySelector() {
+        return proxySelector;
+    }
+
+    public AuthenticationSelector getAuthenticationSelector() {
+        return authenticationSelector;
+    }
+
+    /**
+     * The server derived configuration properties, to be added to session configuration properties. Returns new map
+     * on each invocation, holding copies of mutable values (like {@link Xpp3Dom} and header maps), so sessions created
+     * from same template do not share them.
+     */
+    public Map<String, Object> getConfigProperties() {
+        LinkedHashMap<String, Object> result = new LinkedHashMap<>(configProperties.size());
+        configProperties.forEach((k, v) -> result.put(k, copy(v)));
+        return result;
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof Xpp3Dom) {
+            return new Xpp3Dom((Xpp3Dom) value);
+        } else if (value instanceof Map) {
+            return new HashMap<>((Map<?, ?>) value);
+        }
+        return value;
+    }
+
+    /**
+     * The problems reported during decryption of settings.
+     */
+    public List<SettingsProblem> getProblems() {
+        return problems;
+    }
+
+    /**
+     * Builds new template from passed in settings.
+     */
+    public static SessionTemplate create(Settings settings, SettingsDecrypter settingsDecrypter) {
+        requireNonNull(settings);
+        requireNonNull(settingsDecrypter);
+        DefaultSettingsDecryptionRequest decrypt = new DefaultSettingsDecryptionRequest();
+        decrypt.setProxies(settings.getProxies());
+        decrypt.setServers(settings.getServers());
+        SettingsDecryptionResult decrypted = settingsDecrypter.decrypt(decrypt);
+
+        LinkedHashMap<String, Object> configProps = new LinkedHashMap<>();
+
+        DefaultMirrorSelector mirrorSelector = new DefaultMirrorSelector();
+        for (Mirror mirror : settings.getMirrors()) {
+            mirrorSelector.add(
+                    mirror.getId(),
+                    mirror.getUrl(),
+                    mirror.getLayout(),
+                    false,
+                    mirror.isBlocked(),
+                    mirror.getMirrorOf(),
+                    mirror.getMirrorOfLayouts());
+        }
+
+        DefaultProxySelector proxySelector = new DefaultProxySelector();
+        for (Proxy proxy : decrypted.getProxies()) {
+            AuthenticationBuilder authBuilder = new AuthenticationBuilder();
+            authBuilder.addUsername(proxy.getUsername()).addPassword(proxy.getPassword());
+            proxySelector.add(
+                    new org.eclipse.aether.repository.Proxy(
+                            proxy.getProtocol(), proxy.getHost(), proxy.getPort(), authBuilder.build()),
+                    proxy.getNonProxyHosts());
+        }
+
+        DefaultAuthenticationSelector authSelector = new DefaultAuthenticationSelector();
+        for (Server server : decrypted.getServers()) {
+            AuthenticationBuilder authBuilder = new AuthenticationBuilder();
+            authBuilder.addUsername(server.getUsername()).addPassword(server.getPassword());
+            authBuilder.addPrivateKey(server.getPrivateKey(), server.getPassphrase());
+            authSelector.add(server.getId(), authBuilder.build());
+
+            if (server.getConfiguration() != null) {
+                Xpp3Dom dom = new Xpp3Dom((Xpp3Dom) server.getConfiguration());
+                for (int i = dom.getChildCount() - 1; i >= 0; i--) {
+                    Xpp3Dom child = dom.getChild(i);
+                    if ("wagonProvider".equals(child.getName())) {
+                        dom.removeChild(i);
+                    }
+                }
+
+                // stash config entries just like Maven does
+                configProps.put("aether.connector.wagon.config." + server.getId(), dom);
+
+                // Translate to proper resolver configuration properties as well (as Plexus XML above is Wagon specific
+                // only), but support only configuration/httpConfiguration/all, see
+                // https://maven.apache.org/guides/mini/guide-http-settings.html
+                Map<String, String> headers = null;
+                Integer connectTimeout = null;
+                Integer requestTimeout = null;
+
+                Xpp3Dom httpHeaders = dom.getChild("httpHeaders");
+                if (httpHeaders != null) {
+                    Xpp3Dom[] properties = httpHeaders.getChildren("property");
+                    if (properties != null && properties.length > 0) {
+                        headers = new HashMap<>();
+                        for (Xpp3Dom property : properties) {
+                            headers.put(
+                                    property.getChild("name").getValue(),
+                                    property.getChild("value").getValue());
+                        }
+                    }
+                }
+
+                Xpp3Dom connectTimeoutXml = dom.getChild("connectTimeout");
+                if (connectTimeoutXml != null) {
+                    connectTimeout = Integer.parseInt(connectTimeoutXml.getValue());
+                }
+
+                Xpp3Dom requestTimeoutXml = dom.getChild("requestTimeout");
+                if (requestTimeoutXml != null) {
+                    requestTimeout = Integer.parseInt(requestTimeoutXml.getValue());
+                }
+
+                // org.eclipse.aether.ConfigurationProperties.HTTP_HEADERS => Map<String, String>
+                if (headers != null) {
+                    configProps.put(ConfigurationProperties.HTTP_HEADERS + "." + server.getId(), headers);
+                }
+                // org.eclipse.aether.ConfigurationProperties.CONNECT_TIMEOUT => int
+                if (connectTimeout != null) {
+                    configProps.put(ConfigurationProperties.CONNECT_TIMEOUT + "." + server.getId(), connectTimeout);
+                }
+                // org.eclipse.aether.ConfigurationProperties.REQUEST_TIMEOUT => int
+                if (requestTimeout != null) {
+                    configProps.put(ConfigurationProperties.REQUEST_TIMEOUT + "." + server.getId(), requestTimeout);
+                }
+            }
+
+            configProps.put("aether.connector.perms.fileMode." + server.getId(), server.getFilePermissions());
+            configProps.put("aether.connector.perms.dirMode." + server.getId(), server.getDirectoryPermissions());
+        }
+
+        return new SessionTemplate(mirrorSelector, proxySelector, authSelector, configProps, decrypted.getProblems());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.runtime.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import org.apache.maven.settings.Settings;
+
+/**
+ * Process-wide bounded cache of effective {@link Settings}. Keys are expected to contain everything that affects the
+ * outcome of settings building: the fingerprints of settings files and the values of properties they refer to. Cached
+ * instances are never handed out, only their clones, as callers are free to modify settings they get. Handed out
+ * clones that were not modified may be tracked, to let derived data (like session template) to be cached as well.
+ */
+public final class SettingsCache {
+    private static final int MAX_ENTRIES = 32;
+
+    public static final SettingsCache INSTANCE = new SettingsCache();
+
+    private final LinkedHashMap<List<Object>, Settings> cache =
+            new LinkedHashMap<List<Object>, Settings>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<Object>, Settings> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+
+    private final Map<Settings, List<Object>> tracked = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private SettingsCache() {}
+
+    /**
+     * Creates cache key out of passed in elements.
+     */
+    public static List<Object> key(Object... elements) {
+        return Arrays.asList(elements);
+    }
+
+    /**
+     * Returns the values of properties referred to by expressions in given settings files, as settings building
+     * interpolation would see them (user properties override system properties). Unrelated properties are not
+     * included, so they do not affect the cache key.
+     */
+    public static Map<String, String> properties(
+            Map<String, String> systemProperties, Map<String, String> userProperties, FileFingerprint... files) {
+        TreeMap<String, String> result = new TreeMap<>();
+        for (FileFingerprint file : files) {
+            for (String name : file.getExpressions()) {
+                String value = userProperties.get(name);
+                result.put(name, value != null ? value : systemProperties.get(name));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a clone of cached settings for given key, or {@code null} if not cached.
+     */
+    public Settings get(List<Object> key) {
+        requireNonNull(key);
+        Settings settings;
+        synchronized (cache) {
+            settings = cache.get(key);
+        }
+        return settings != null ? settings.clone() : null;
+    }
+
+    /**
+     * Caches a clone of passed in settings, for given key.
+     */
+    public void put(List<Object> key, Settings settings) {
+        requireNonNull(key);
+        requireNonNull(settings);
+        Settings copy = settings.clone();
+        synchronized (cache) {
+            cache.put(key, copy);
+        }
+    }
+
+    /**
+     * Marks passed in settings instance as unmodified settings for given key. Callers must not track instances they
+     * modified.
+     */
+    public void track(Settings settings, List<Object> key) {
+        tracked.put(requireNonNull(settings), requireNonNull(key));
+    }
+
+    /**
+     * Returns the key of tracked settings instance, or {@code null} if instance is not tracked.
+     */
+    public List<Object> keyOf(Settings settings) {
+        return tracked.get(requireNonNull(settings));
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+        tracked.clear();
+    }
+}
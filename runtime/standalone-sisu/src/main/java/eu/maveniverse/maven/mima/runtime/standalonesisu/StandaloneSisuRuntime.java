@@ -9,10 +9,19 @@ package eu.maveniverse.maven.mima.runtime.standalonesisu;
 
 import eu.maveniverse.maven.mima.context.Context;
 import eu.maveniverse.maven.mima.context.ContextOverrides;
+import eu.maveniverse.maven.mima.context.StartupTimings;
 import eu.maveniverse.maven.mima.runtime.shared.PreBoot;
 import eu.maveniverse.maven.mima.runtime.shared.StandaloneRuntimeSupport;
 import eu.maveniverse.maven.mima.runtime.standalonesisu.internal.SisuBooter;
 import eu.maveniverse.maven.mima.runtime.standalonesisu.internal.SisuLookup;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -20,11 +29,43 @@ import org.apache.maven.model.profile.ProfileSelector;
 import org.apache.maven.settings.building.SettingsBuilder;
 import org.apache.maven.settings.crypto.SettingsDecrypter;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.util.ConfigUtils;
 import org.eclipse.sisu.inject.MutableBeanLocator;
+import org.eclipse.sisu.space.BeanScanning;
 
 @Singleton
 @Named
 public final class StandaloneSisuRuntime extends StandaloneRuntimeSupport {
+    /**
+     * Configuration property enabling shared mode (default {@code false}). Applies to managed mode only. In shared mode
+     * contexts created with same thread context class loader and same settings security file share one booted Sisu
+     * injector, that is shut down when last context using it is closed.
+     *
+     * @since 2.4.47
+     */
+    public static final String CONFIG_PROP_SHARED = "mima.sisu.shared";
+
+    /**
+     * Configuration property setting the Sisu bean scanning used in managed mode, one of {@link BeanScanning} names
+     * (case-insensitive). Default is {@code cache} (classpath scanning with cached results), unless overridden by
+     * {@link #DEFAULTS_RESOURCE} present on classpath.
+     *
+     * @since 2.4.47
+     */
+    public static final String CONFIG_PROP_BEAN_SCANNING = "mima.sisu.beanScanning";
+
+    /**
+     * Classpath resource (properties file) that may provide defaults for configuration properties of this runtime.
+     * The {@code standalone-sisu-uber} JAR contains merged Sisu index of all shaded components, and uses this resource
+     * to switch to index only bean scanning.
+     *
+     * @since 2.4.47
+     */
+    public static final String DEFAULTS_RESOURCE = "META-INF/maveniverse/mima-sisu.properties";
+
+    private static final Properties DEFAULTS = loadDefaults();
+
+    private final HashMap<List<Object>, SharedBooter> shared = new HashMap<>();
 
     private final RepositorySystem repositorySystem;
 
@@ -65,7 +106,12 @@ public final class StandaloneSisuRuntime extends StandaloneRuntimeSupport {
         PreBoot preBoot = preBoot(overrides);
         // managed or unmanaged context: depending on how we booted
         if (repositorySystem == null) {
-            SisuBooter booter = SisuBooter.newSisuBooter(preBoot);
+            if (ConfigUtils.getBoolean(preBoot.getOverrides().getConfigProperties(), false, CONFIG_PROP_SHARED)) {
+                return createShared(preBoot);
+            }
+            long start = preBoot.getStartupRecorder().start();
+            SisuBooter booter = SisuBooter.newSisuBooter(preBoot, beanScanning(preBoot));
+            preBoot.getStartupRecorder().record(StartupTimings.BOOT, start);
             return buildContext(
                     this,
                     preBoot,
@@ -87,4 +133,87 @@ public final class StandaloneSisuRuntime extends StandaloneRuntimeSupport {
                     null);
         }
     }
+
+    private Context createShared(PreBoot preBoot) {
+        long start = preBoot.getStartupRecorder().start();
+        BeanScanning beanScanning = beanScanning(preBoot);
+        List<Object> key = Arrays.asList(
+                Thread.currentThread().getContextClassLoader(),
+                preBoot.getMavenUserHome().settingsSecurityXml(),
+                beanScanning);
+        SharedBooter sharedBooter;
+        synchronized (shared) {
+            sharedBooter = shared.get(key);
+            if (sharedBooter == null) {
+                sharedBooter = new SharedBooter(SisuBooter.newSisuBooter(preBoot, beanScanning));
+                shared.put(key, sharedBooter);
+            }
+            sharedBooter.references++;
+        }
+        preBoot.getStartupRecorder().record(StartupTimings.BOOT, start);
+        SisuBooter booter = sharedBooter.booter;
+        try {
+            return buildContext(
+                    this,
+                    preBoot,
+                    booter.repositorySystem,
+                    booter.settingsBuilder,
+                    booter.settingsDecrypter,
+                    booter.profileSelector,
+                    new SisuLookup(booter.locator),
+                    () -> release(key));
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+    }
+
+    private void release(List<Object> key) {
+        SharedBooter sharedBooter;
+        synchronized (shared) {
+            sharedBooter = shared.get(key);
+            if (sharedBooter == null || --sharedBooter.references > 0) {
+                return;
+            }
+            shared.remove(key);
+        }
+        sharedBooter.booter.close();
+    }
+
+    private static BeanScanning beanScanning(PreBoot preBoot) {
+        String value = ConfigUtils.getString(
+                preBoot.getOverrides().getConfigProperties(),
+                DEFAULTS.getProperty(CONFIG_PROP_BEAN_SCANNING, BeanScanning.CACHE.name()),
+                CONFIG_PROP_BEAN_SCANNING);
+        try {
+            return BeanScanning.valueOf(value.toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "Unsupported " + CONFIG_PROP_BEAN_SCANNING + " value: " + value + "; supported values are "
+                            + Arrays.toString(BeanScanning.values()),
+                    e);
+        }
+    }
+
+    private static Properties loadDefaults() {
+        Properties defaults = new Properties();
+        try (InputStream inputStream =
+                StandaloneSisuRuntime.class.getClassLoader().getResourceAsStream(DEFAULTS_RESOURCE)) {
+            if (inputStream != null) {
+                defaults.load(inputStream);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return defaults;
+    }
+
+    private static final class SharedBooter {
+        private final SisuBooter booter;
+        private int references;
+
+        private SharedBooter(SisuBooter booter) {
+            this.booter = booter;
+        }
+    }
 }
@@ -56,10 +56,20 @@ public class SisuBooter implements Closeable {
     }
 
     public static SisuBooter newSisuBooter(PreBoot preBoot) {
+        return newSisuBooter(preBoot, BeanScanning.CACHE);
+    }
+
+    /**
+     * Boots Sisu using given bean scanning. When using {@link BeanScanning#INDEX} or
+     * {@link BeanScanning#GLOBAL_INDEX} the classpath is not scanned, only the precomputed Sisu index is used.
+     *
+     * @since 2.4.47
+     */
+    public static SisuBooter newSisuBooter(PreBoot preBoot, BeanScanning beanScanning) {
         if (System.getProperty("guice_custom_class_loading", "").isEmpty()) {
             System.setProperty("guice_custom_class_loading", "CHILD");
         }
-        final Module app = Main.wire(BeanScanning.CACHE, new AbstractModule() {
+        final Module app = Main.wire(beanScanning, new AbstractModule() {
             @Override
             protected void configure() {
                 bind(PreBoot.class).toInstance(preBoot);
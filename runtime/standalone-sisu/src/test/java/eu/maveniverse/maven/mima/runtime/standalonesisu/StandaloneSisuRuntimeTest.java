@@ -8,6 +8,9 @@
 package eu.maveniverse.maven.mima.runtime.standalonesisu;
 
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
@@ -21,12 +24,15 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import javax.inject.Inject;
 import javax.inject.Named;
+import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.resolution.VersionRequest;
 import org.eclipse.aether.resolution.VersionResolutionException;
 import org.eclipse.aether.resolution.VersionResult;
+import org.eclipse.aether.spi.connector.transport.TransporterFactory;
 import org.eclipse.sisu.space.BeanScanning;
 import org.eclipse.sisu.space.SpaceModule;
 import org.eclipse.sisu.space.URLClassSpace;
@@ -71,4 +77,36 @@ public class StandaloneSisuRuntimeTest extends AbstractModule {
             throw new RuntimeException(e);
         }
     }
+
+    @Test
+    void shared() {
+        ContextOverrides overrides = ContextOverrides.create()
+                .withLocalRepositoryOverride(Paths.get("target/local-repo"))
+                .configProperties(Collections.singletonMap(StandaloneSisuRuntime.CONFIG_PROP_SHARED, "true"))
+                .build();
+        StandaloneSisuRuntime runtime = new StandaloneSisuRuntime();
+        RepositorySystem shared;
+        try (Context one = runtime.create(overrides)) {
+            shared = one.repositorySystem();
+            try (Context two = runtime.create(overrides)) {
+                assertSame(shared, two.repositorySystem());
+            }
+        }
+        // last close shut down the injector, new one is booted
+        try (Context three = runtime.create(overrides)) {
+            assertNotSame(shared, three.repositorySystem());
+        }
+    }
+
+    @Test
+    void indexOnly() {
+        try (Context context = new StandaloneSisuRuntime()
+                .create(ContextOverrides.create()
+                        .withLocalRepositoryOverride(Paths.get("target/local-repo"))
+                        .configProperties(Collections.singletonMap(
+                                StandaloneSisuRuntime.CONFIG_PROP_BEAN_SCANNING, "global_index"))
+                        .build())) {
+            assertTrue(context.lookup().lookup(TransporterFactory.class, "http").isPresent());
+        }
+    }
 }
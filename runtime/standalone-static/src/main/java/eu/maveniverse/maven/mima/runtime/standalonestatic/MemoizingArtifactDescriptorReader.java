@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.mima.runtime.standalonestatic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.impl.ArtifactDescriptorReader;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.resolution.ArtifactDescriptorException;
+import org.eclipse.aether.resolution.ArtifactDescriptorPolicy;
+import org.eclipse.aether.resolution.ArtifactDescriptorPolicyRequest;
+import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
+import org.eclipse.aether.resolution.ArtifactDescriptorResult;
+import org.eclipse.aether.util.ConfigUtils;
+
+/**
+ * An {@link ArtifactDescriptorReader} decorator, that memoizes successfully read descriptors of release versions
+ * across sessions, when enabled in session using {@link StandaloneStaticRuntime#CONFIG_PROP_MEMOIZE_DESCRIPTORS}.
+ * Only descriptors that were actually found are memoized: lenient policies turn missing descriptors (ie. not yet
+ * downloaded, or when offline) into empty results without exceptions, that must not outlive the session.
+ * Descriptors are keyed by the request (artifact, repositories and request context), by the effective
+ * {@link ArtifactDescriptorPolicy} of the request, as lenient policies turn missing or invalid descriptors into empty
+ * results, and by the session aspects affecting model building (local repository, workspace reader, system and user
+ * properties and descriptor repositories handling).
+ * <p>
+ * Storage is bounded: at most configured count of least recently used descriptors are kept, and they are softly
+ * referenced, so the memory they occupy is reclaimed when heap is low. Memoized descriptors are served without
+ * repository events.
+ *
+ * @since 2.4.47
+ */
+final class MemoizingArtifactDescriptorReader implements ArtifactDescriptorReader {
+    private static final Object SESSION_KEY = MemoizingArtifactDescriptorReader.class.getName() + ".sessionKey";
+
+    private final ArtifactDescriptorReader delegate;
+
+    private final LinkedHashMap<Key, SoftReference<ArtifactDescriptorResult>> results;
+
+    MemoizingArtifactDescriptorReader(ArtifactDescriptorReader delegate, int maxEntries) {
+        this.delegate = requireNonNull(delegate);
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be greater than zero");
+        }
+        this.results = new LinkedHashMap<Key, SoftReference<ArtifactDescriptorResult>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SoftReference<ArtifactDescriptorResult>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public ArtifactDescriptorResult readArtifactDescriptor(
+            RepositorySystemSession session, ArtifactDescriptorRequest request) throws ArtifactDescriptorException {
+        if (!ConfigUtils.getBoolean(session, false, StandaloneStaticRuntime.CONFIG_PROP_MEMOIZE_DESCRIPTORS)
+                || !isRelease(request.getArtifact())) {
+            return delegate.readArtifactDescriptor(session, request);
+        }
+
+        Key key = new Key(sessionKey(session), request, policy(session, request));
+        ArtifactDescriptorResult memoized;
+        synchronized (results) {
+            SoftReference<ArtifactDescriptorResult> reference = results.get(key);
+            memoized = reference != null ? reference.get() : null;
+            if (reference != null && memoized == null) {
+                results.remove(key);
+            }
+        }
+        if (memoized != null) {
+            return copy(memoized, request);
+        }
+
+        ArtifactDescriptorResult result = delegate.readArtifactDescriptor(session, request);
+        if (result.getExceptions().isEmpty() && result.getRepository() != null) {
+            // stored copy is not reachable by caller, so caller changes to returned result do not leak into it
+            ArtifactDescriptorResult stored = copy(result, request);
+            synchronized (results) {
+                results.put(key, new SoftReference<>(stored));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Descriptors of snapshots and of versions resolved from metadata (ranges, {@code LATEST} and {@code RELEASE})
+     * change over time, hence only descriptors of release versions are memoized.
+     */
+    private static boolean isRelease(Artifact artifact) {
+        String version = artifact.getVersion();
+        return !artifact.isSnapshot()
+                && !"LATEST".equals(version)
+                && !"RELEASE".equals(version)
+                && version.indexOf('[') < 0
+                && version.indexOf('(') < 0;
+    }
+
+    /**
+     * Returns the effective descriptor policy for given request, absent policy means strict.
+     */
+    private static int policy(RepositorySystemSession session, ArtifactDescriptorRequest request) {
+        ArtifactDescriptorPolicy policy = session.getArtifactDescriptorPolicy();
+        return policy != null
+                ? policy.getPolicy(
+                        session,
+                        new ArtifactDescriptorPolicyRequest(request.getArtifact(), request.getRequestContext()))
+                : ArtifactDescriptorPolicy.STRICT;
+    }
+
+    /**
+     * Returns the session aspects affecting descriptor reading, calculated once per session. As derived sessions may
+     * share session data, the calculated key is reused only if it was calculated from same property maps.
+     */
+    private static SessionKey sessionKey(RepositorySystemSession session) {
+        Object key = session.getData().get(SESSION_KEY);
+        if (key instanceof SessionKey && ((SessionKey) key).isFor(session)) {
+            return (SessionKey) key;
+        }
+        SessionKey sessionKey = new SessionKey(session);
+        session.getData().set(SESSION_KEY, sessionKey);
+        return sessionKey;
+    }
+
+    private static ArtifactDescriptorResult copy(ArtifactDescriptorResult result, ArtifactDescriptorRequest request) {
+        ArtifactDescriptorResult copy = new ArtifactDescriptorResult(request);
+        copy.setArtifact(result.getArtifact());
+        copy.setRepository(result.getRepository());
+        copy.setRelocations(new ArrayList<>(result.getRelocations()));
+        copy.setAliases(new ArrayList<>(result.getAliases()));
+        copy.setDependencies(new ArrayList<>(result.getDependencies()));
+        copy.setManagedDependencies(new ArrayList<>(result.getManagedDependencies()));
+        copy.setRepositories(new ArrayList<>(result.getRepositories()));
+        copy.setProperties(new HashMap<>(result.getProperties()));
+        return copy;
+    }
+
+    private static final class SessionKey {
+        private final Map<String, String> systemPropertiesRef;
+
+        private final Map<String, String> userPropertiesRef;
+
+        private final List<Object> aspects;
+
+        private final int hashCode;
+
+        private SessionKey(RepositorySystemSession session) {
+            this.systemPropertiesRef = session.getSystemProperties();
+            this.userPropertiesRef = session.getUserProperties();
+            LocalRepository localRepository = session.getLocalRepository();
+            this.aspects = Arrays.asList(
+                    localRepository != null ? localRepository.getBasedir() : null,
+                    session.isIgnoreArtifactDescriptorRepositories(),
+                    new Identity(session.getWorkspaceReader()),
+                    new HashMap<>(systemPropertiesRef),
+                    new HashMap<>(userPropertiesRef));
+            this.hashCode = aspects.hashCode();
+        }
+
+        private boolean isFor(RepositorySystemSession session) {
+            LocalRepository localRepository = session.getLocalRepository();
+            return systemPropertiesRef == session.getSystemProperties()
+                    && userPropertiesRef == session.getUserProperties()
+                    && Objects.equals(aspects.get(0), localRepository != null ? localRepository.getBasedir() : null)
+                    && aspects.get(1).equals(session.isIgnoreArtifactDescriptorRepositories())
+                    && aspects.get(2).equals(new Identity(session.getWorkspaceReader()));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SessionKey that = (SessionKey) o;
+            return hashCode == that.hashCode && aspects.equals(that.aspects);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Wraps an object to be compared by identity, as workspace readers are stateful components.
+     */
+    private static final class Identity {
+        private final Object object;
+
+        private Identity(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Identity && ((Identity) o).object == object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
+        }
+    }
+
+    private static final class Key {
+        private final SessionKey session;
+
+        private final Artifact artifact;
+
+        private final Object repositories;
+
+        private final String context;
+
+        private final int policy;
+
+        private final int hashCode;
+
+        private Key(SessionKey session, ArtifactDescriptorRequest request, int policy) {
+            this.session = session;
+            this.artifact = request.getArtifact();
+            this.repositories = new ArrayList<>(request.getRepositories());
+            this.context = request.getRequestContext();
+            this.policy = policy;
+            this.hashCode = Objects.hash(session, artifact, repositories, context, policy);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key that = (Key) o;
+            return hashCode == that.hashCode
+                    && policy == that.policy
+                    && artifact.equals(that.artifact)
+                    && repositories.equals(that.repositories)
+                    && Objects.equals(context, that.context)
+                    && session.equals(that.session);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
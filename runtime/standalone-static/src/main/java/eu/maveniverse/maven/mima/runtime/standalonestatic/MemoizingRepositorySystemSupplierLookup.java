@@ -8,17 +8,21 @@
 package eu.maveniverse.maven.mima.runtime.standalonestatic;
 
 import eu.maveniverse.maven.mima.context.Lookup;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Supplier;
 import org.apache.maven.model.building.ModelBuilder;
 import org.apache.maven.repository.internal.ModelCacheFactory;
 import org.eclipse.aether.RepositoryListener;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.connector.basic.BasicRepositoryConnectorFactory;
 import org.eclipse.aether.impl.*;
+import org.eclipse.aether.internal.impl.DefaultRepositorySystem;
 import org.eclipse.aether.internal.impl.LocalPathComposer;
 import org.eclipse.aether.internal.impl.LocalPathPrefixComposerFactory;
 import org.eclipse.aether.internal.impl.TrackingFileManager;
@@ -43,14 +47,44 @@ import org.eclipse.aether.spi.synccontext.SyncContextFactory;
 import org.eclipse.aether.supplier.RepositorySystemSupplier;
 import org.eclipse.aether.transport.http.ChecksumExtractor;
 
+/**
+ * Lookup backed by {@link RepositorySystemSupplier}, that memoizes all the components it creates.
+ * <p>
+ * In eager mode (default) the whole component graph is created in constructor. In lazy mode only the core of the graph
+ * is created in constructor, while components needed for remote access (connectors, transporters), installing,
+ * deploying, reading artifact descriptors and collecting dependencies are created on their first use, or on their
+ * first lookup.
+ */
 public class MemoizingRepositorySystemSupplierLookup extends RepositorySystemSupplier implements Lookup {
+    /**
+     * The count of artifact descriptors kept by artifact descriptor reader, when enabled by
+     * {@link StandaloneStaticRuntime#CONFIG_PROP_MEMOIZE_DESCRIPTORS}.
+     */
+    private static final int MAX_MEMOIZED_DESCRIPTORS = 10_000;
+
     private final Map<Class<?>, Map<String, Object>> staticExtensions;
     private final HashMap<Class<?>, Object> singulars = new HashMap<>();
     private final HashMap<Class<?>, Map<String, Object>> plurals = new HashMap<>();
+    private final HashMap<Class<?>, Supplier<?>> lazies = new HashMap<>();
+    private final boolean lazy;
 
     public MemoizingRepositorySystemSupplierLookup(Map<Class<?>, Map<String, Object>> staticExtensions) {
+        this(staticExtensions, false);
+    }
+
+    /**
+     * Creates instance in eager or lazy mode.
+     *
+     * @since 2.4.47
+     */
+    public MemoizingRepositorySystemSupplierLookup(Map<Class<?>, Map<String, Object>> staticExtensions, boolean lazy) {
         this.staticExtensions = staticExtensions;
-        memoize(RepositorySystem.class, super.get()); // to trigger filling up of memoized components
+        this.lazy = lazy;
+        if (lazy) {
+            memoize(RepositorySystem.class, getLazy());
+        } else {
+            memoize(RepositorySystem.class, super.get()); // to trigger filling up of memoized components
+        }
     }
 
     @Override
@@ -83,11 +117,22 @@ public class MemoizingRepositorySystemSupplierLookup extends RepositorySystemSup
 
     @Override
     public <T> Optional<T> lookup(Class<T> type, String name) {
+        if (lazy) {
+            // lazily created components are memoized on first use: guard the maps
+            synchronized (this) {
+                return Optional.ofNullable(lookupMap(type).get(name));
+            }
+        }
+        // eager graph is complete and unmodified after construction
         return Optional.ofNullable(lookupMap(type).get(name));
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private <T> Map<String, T> lookupMap(Class<T> type) {
+        Supplier<?> lazy = lazies.get(type);
+        if (lazy != null) {
+            lazy.get();
+        }
         Map<String, T> result = (Map) plurals.get(type);
         if (result != null) {
             return result;
@@ -99,6 +144,209 @@ public class MemoizingRepositorySystemSupplierLookup extends RepositorySystemSup
         return Collections.emptyMap();
     }
 
+    /**
+     * Same wiring as {@link RepositorySystemSupplier#get()}, but components not needed for resolution from local
+     * repository are wired lazily: dependents receive proxies, that create the component on first use.
+     */
+    private RepositorySystem getLazy() {
+        FileProcessor fileProcessor = getFileProcessor();
+        TrackingFileManager trackingFileManager = getTrackingFileManager();
+        LocalPathComposer localPathComposer = getLocalPathComposer();
+        LocalPathPrefixComposerFactory localPathPrefixComposerFactory = getLocalPathPrefixComposerFactory();
+        RepositorySystemLifecycle repositorySystemLifecycle = getRepositorySystemLifecycle();
+        OfflineController offlineController = getOfflineController();
+        UpdatePolicyAnalyzer updatePolicyAnalyzer = getUpdatePolicyAnalyzer();
+        ChecksumPolicyProvider checksumPolicyProvider = getChecksumPolicyProvider();
+        UpdateCheckManager updateCheckManager = getUpdateCheckManager(trackingFileManager, updatePolicyAnalyzer);
+        Map<String, NamedLockFactory> namedLockFactories = getNamedLockFactories();
+        Map<String, NameMapper> nameMappers = getNameMappers();
+        NamedLockFactoryAdapterFactory namedLockFactoryAdapterFactory =
+                getNamedLockFactoryAdapterFactory(namedLockFactories, nameMappers, repositorySystemLifecycle);
+        SyncContextFactory syncContextFactory = getSyncContextFactory(namedLockFactoryAdapterFactory);
+        Map<String, ChecksumAlgorithmFactory> checksumAlgorithmFactories = getChecksumAlgorithmFactories();
+        ChecksumAlgorithmFactorySelector checksumAlgorithmFactorySelector =
+                getChecksumAlgorithmFactorySelector(checksumAlgorithmFactories);
+        Map<String, RepositoryLayoutFactory> repositoryLayoutFactories =
+                getRepositoryLayoutFactories(checksumAlgorithmFactorySelector);
+        RepositoryLayoutProvider repositoryLayoutProvider = getRepositoryLayoutProvider(repositoryLayoutFactories);
+        LocalRepositoryProvider localRepositoryProvider =
+                getLocalRepositoryProvider(localPathComposer, trackingFileManager, localPathPrefixComposerFactory);
+        RemoteRepositoryManager remoteRepositoryManager =
+                getRemoteRepositoryManager(updatePolicyAnalyzer, checksumPolicyProvider);
+        Map<String, RemoteRepositoryFilterSource> remoteRepositoryFilterSources =
+                getRemoteRepositoryFilterSources(repositorySystemLifecycle, repositoryLayoutProvider);
+        RemoteRepositoryFilterManager remoteRepositoryFilterManager =
+                getRemoteRepositoryFilterManager(remoteRepositoryFilterSources);
+        Map<String, RepositoryListener> repositoryListeners = getRepositoryListeners();
+        RepositoryEventDispatcher repositoryEventDispatcher = getRepositoryEventDispatcher(repositoryListeners);
+        Map<String, TrustedChecksumsSource> trustedChecksumsSources =
+                getTrustedChecksumsSources(fileProcessor, localPathComposer, repositorySystemLifecycle);
+
+        // remote access
+        Supplier<Map<String, ProvidedChecksumsSource>> providedChecksumsSources =
+                lazy(ProvidedChecksumsSource.class, () -> getProvidedChecksumsSources(trustedChecksumsSources));
+        Supplier<Map<String, ChecksumExtractor>> checksumExtractors =
+                lazy(ChecksumExtractor.class, this::getChecksumExtractors);
+        Supplier<Map<String, TransporterFactory>> transporterFactories =
+                lazy(TransporterFactory.class, () -> getTransporterFactories(checksumExtractors.get()));
+        Supplier<TransporterProvider> transporterProvider =
+                lazy(TransporterProvider.class, () -> getTransporterProvider(transporterFactories.get()));
+        Supplier<BasicRepositoryConnectorFactory> basicRepositoryConnectorFactory = lazy(
+                BasicRepositoryConnectorFactory.class,
+                () -> getBasicRepositoryConnectorFactory(
+                        transporterProvider.get(),
+                        repositoryLayoutProvider,
+                        checksumPolicyProvider,
+                        fileProcessor,
+                        providedChecksumsSources.get()));
+        Supplier<Map<String, RepositoryConnectorFactory>> repositoryConnectorFactories = lazy(
+                RepositoryConnectorFactory.class,
+                () -> getRepositoryConnectorFactories(basicRepositoryConnectorFactory.get()));
+        RepositoryConnectorProvider repositoryConnectorProvider = proxy(
+                RepositoryConnectorProvider.class,
+                lazy(
+                        RepositoryConnectorProvider.class,
+                        () -> getRepositoryConnectorProvider(
+                                repositoryConnectorFactories.get(), remoteRepositoryFilterManager)));
+
+        Map<String, MetadataGeneratorFactory> metadataGeneratorFactories = getMetadataGeneratorFactories();
+        Installer installer = proxy(
+                Installer.class,
+                lazy(
+                        Installer.class,
+                        () -> getInstaller(
+                                fileProcessor,
+                                repositoryEventDispatcher,
+                                metadataGeneratorFactories,
+                                syncContextFactory)));
+        Deployer deployer = proxy(
+                Deployer.class,
+                lazy(
+                        Deployer.class,
+                        () -> getDeployer(
+                                fileProcessor,
+                                repositoryEventDispatcher,
+                                repositoryConnectorProvider,
+                                remoteRepositoryManager,
+                                updateCheckManager,
+                                metadataGeneratorFactories,
+                                syncContextFactory,
+                                offlineController)));
+        MetadataResolver metadataResolver = getMetadataResolver(
+                repositoryEventDispatcher,
+                updateCheckManager,
+                repositoryConnectorProvider,
+                remoteRepositoryManager,
+                syncContextFactory,
+                offlineController,
+                remoteRepositoryFilterManager);
+        VersionResolver versionResolver =
+                getVersionResolver(metadataResolver, syncContextFactory, repositoryEventDispatcher);
+        VersionRangeResolver versionRangeResolver =
+                getVersionRangeResolver(metadataResolver, syncContextFactory, repositoryEventDispatcher);
+        Map<String, ArtifactResolverPostProcessor> artifactResolverPostProcessors =
+                getArtifactResolverPostProcessors(checksumAlgorithmFactorySelector, trustedChecksumsSources);
+        ArtifactResolver artifactResolver = getArtifactResolver(
+                fileProcessor,
+                repositoryEventDispatcher,
+                versionResolver,
+                updateCheckManager,
+                repositoryConnectorProvider,
+                remoteRepositoryManager,
+                syncContextFactory,
+                offlineController,
+                artifactResolverPostProcessors,
+                remoteRepositoryFilterManager);
+
+        // model building
+        Supplier<ModelBuilder> modelBuilder = lazy(ModelBuilder.class, this::getModelBuilder);
+        Supplier<ModelCacheFactory> modelCacheFactory = lazy(ModelCacheFactory.class, this::getModelCacheFactory);
+        ArtifactDescriptorReader artifactDescriptorReader = proxy(
+                ArtifactDescriptorReader.class,
+                lazy(
+                        ArtifactDescriptorReader.class,
+                        () -> getArtifactDescriptorReader(
+                                remoteRepositoryManager,
+                                versionResolver,
+                                versionRangeResolver,
+                                artifactResolver,
+                                modelBuilder.get(),
+                                repositoryEventDispatcher,
+                                modelCacheFactory.get())));
+        Supplier<Map<String, DependencyCollectorDelegate>> dependencyCollectorDelegates = lazy(
+                DependencyCollectorDelegate.class,
+                () -> getDependencyCollectorDelegates(
+                        remoteRepositoryManager, artifactDescriptorReader, versionRangeResolver));
+        DependencyCollector dependencyCollector = proxy(
+                DependencyCollector.class,
+                lazy(DependencyCollector.class, () -> getDependencyCollector(dependencyCollectorDelegates.get())));
+
+        return new DefaultRepositorySystem(
+                versionResolver,
+                versionRangeResolver,
+                artifactResolver,
+                metadataResolver,
+                artifactDescriptorReader,
+                dependencyCollector,
+                installer,
+                deployer,
+                localRepositoryProvider,
+                syncContextFactory,
+                remoteRepositoryManager,
+                repositorySystemLifecycle);
+    }
+
+    /**
+     * Registers a memoizing supplier of component(s) of given type, that is used on first lookup of the type as well.
+     * Once created, the component is returned without locking, as proxies invoke this on every call.
+     */
+    private <T> Supplier<T> lazy(Class<?> type, Supplier<T> supplier) {
+        Supplier<T> memoizing = new Supplier<T>() {
+            private volatile T value;
+
+            @Override
+            public T get() {
+                T result = value;
+                if (result == null) {
+                    synchronized (MemoizingRepositorySystemSupplierLookup.this) {
+                        result = value;
+                        if (result == null) {
+                            result = supplier.get();
+                            value = result;
+                        }
+                    }
+                }
+                return result;
+            }
+        };
+        lazies.put(type, memoizing);
+        return memoizing;
+    }
+
+    /**
+     * Creates a proxy of given interface that delegates to the instance obtained from supplier on first use.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Supplier<? extends T> supplier) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "Lazy " + type.getName();
+                }
+            }
+            try {
+                return method.invoke(supplier.get(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
     @Override
     protected FileProcessor getFileProcessor() {
         return memoize(FileProcessor.class, super.getFileProcessor());
@@ -433,14 +681,16 @@ public class MemoizingRepositorySystemSupplierLookup extends RepositorySystemSup
             ModelCacheFactory modelCacheFactory) {
         return memoize(
                 ArtifactDescriptorReader.class,
-                super.getArtifactDescriptorReader(
-                        remoteRepositoryManager,
-                        versionResolver,
-                        versionRangeResolver,
-                        artifactResolver,
-                        modelBuilder,
-                        repositoryEventDispatcher,
-                        modelCacheFactory));
+                new MemoizingArtifactDescriptorReader(
+                        super.getArtifactDescriptorReader(
+                                remoteRepositoryManager,
+                                versionResolver,
+                                versionRangeResolver,
+                                artifactResolver,
+                                modelBuilder,
+                                repositoryEventDispatcher,
+                                modelCacheFactory),
+                        MAX_MEMOIZED_DESCRIPTORS));
     }
 
     @Override
@@ -10,16 +10,51 @@ package eu.maveniverse.maven.mima.runtime.standalonestatic;
 import eu.maveniverse.maven.mima.context.Context;
 import eu.maveniverse.maven.mima.context.ContextOverrides;
 import eu.maveniverse.maven.mima.context.Lookup;
+import eu.maveniverse.maven.mima.context.StartupTimings;
 import eu.maveniverse.maven.mima.context.internal.IteratingLookup;
 import eu.maveniverse.maven.mima.runtime.shared.PreBoot;
 import eu.maveniverse.maven.mima.runtime.shared.StandaloneRuntimeSupport;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import org.apache.maven.model.profile.ProfileSelector;
 import org.apache.maven.settings.building.SettingsBuilder;
 import org.apache.maven.settings.crypto.SettingsDecrypter;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.util.ConfigUtils;
 
 public class StandaloneStaticRuntime extends StandaloneRuntimeSupport {
+    /**
+     * Configuration property enabling pooled mode (default {@code false}). In pooled mode contexts created with equal
+     * boot-relevant overrides (static extensions, settings security file and {@link #CONFIG_PROP_LAZY}) share one
+     * booted {@link RepositorySystem} graph, that is shut down when last context using it is closed.
+     *
+     * @since 2.4.47
+     */
+    public static final String CONFIG_PROP_POOLED = "mima.static.pooled";
+
+    /**
+     * Configuration property enabling lazy mode (default {@code false}). In lazy mode Resolver components not needed
+     * for resolution from local repository (like transporters, installer or deployer) are created on their first use.
+     *
+     * @since 2.4.47
+     */
+    public static final String CONFIG_PROP_LAZY = "mima.static.lazy";
+
+    /**
+     * Configuration property enabling memoization of artifact descriptors (default {@code false}). When enabled in a
+     * context, descriptors of release versions read by it are kept in memory (bounded) and reused by all contexts
+     * sharing the {@link RepositorySystem} (ie. pooled contexts) having memoization enabled, instead of building the
+     * models of same POMs over and over again. Is read from session, so may be changed on customized contexts.
+     *
+     * @since 2.4.47
+     */
+    public static final String CONFIG_PROP_MEMOIZE_DESCRIPTORS = "mima.static.memoizeDescriptors";
+
+    private final HashMap<List<Object>, PooledLookup> pool = new HashMap<>();
 
     public StandaloneStaticRuntime() {
         this("standalone-static", 40);
@@ -37,10 +72,66 @@ public class StandaloneStaticRuntime extends StandaloneRuntimeSupport {
     @Override
     public Context create(ContextOverrides overrides) {
         PreBoot preBoot = preBoot(overrides);
-        Lookup lookup = new IteratingLookup(
-                createStaticLookup(preBoot), createRepositorySystemLookup(preBoot), createCompatLookup(preBoot));
+        if (ConfigUtils.getBoolean(preBoot.getOverrides().getConfigProperties(), false, CONFIG_PROP_POOLED)) {
+            return createPooled(preBoot);
+        }
+        long start = preBoot.getStartupRecorder().start();
+        Lookup lookup = createLookup(preBoot);
         RepositorySystem repositorySystem = lookup.lookup(RepositorySystem.class)
                 .orElseThrow(() -> new NoSuchElementException("No RepositorySystem present"));
+        preBoot.getStartupRecorder().record(StartupTimings.BOOT, start);
+        return createContext(preBoot, lookup, repositorySystem, repositorySystem::shutdown);
+    }
+
+    private Context createPooled(PreBoot preBoot) {
+        long start = preBoot.getStartupRecorder().start();
+        List<Object> key = poolKey(preBoot);
+        PooledLookup pooled;
+        synchronized (pool) {
+            pooled = pool.get(key);
+            if (pooled == null) {
+                Lookup lookup = createLookup(preBoot);
+                pooled = new PooledLookup(
+                        lookup,
+                        lookup.lookup(RepositorySystem.class)
+                                .orElseThrow(() -> new NoSuchElementException("No RepositorySystem present")));
+                pool.put(key, pooled);
+            }
+            pooled.references++;
+        }
+        preBoot.getStartupRecorder().record(StartupTimings.BOOT, start);
+        try {
+            return createContext(preBoot, pooled.lookup, pooled.repositorySystem, () -> release(key));
+        } catch (RuntimeException e) {
+            release(key);
+            throw e;
+        }
+    }
+
+    private void release(List<Object> key) {
+        PooledLookup pooled;
+        synchronized (pool) {
+            pooled = pool.get(key);
+            if (pooled == null || --pooled.references > 0) {
+                return;
+            }
+            pool.remove(key);
+        }
+        pooled.repositorySystem.shutdown();
+    }
+
+    /**
+     * Returns the key of pooled {@link RepositorySystem} graph: the overrides that affect the boot of it.
+     */
+    protected List<Object> poolKey(PreBoot preBoot) {
+        Map<Class<?>, Map<String, Object>> staticExtensions =
+                preBoot.getOverrides().getStaticExtensions();
+        Path settingsSecurityXml = preBoot.getMavenUserHome().settingsSecurityXml();
+        boolean lazy = ConfigUtils.getBoolean(preBoot.getOverrides().getConfigProperties(), false, CONFIG_PROP_LAZY);
+        return Arrays.asList(staticExtensions, settingsSecurityXml, lazy);
+    }
+
+    private Context createContext(PreBoot preBoot, Lookup lookup, RepositorySystem repositorySystem, Runnable closer) {
         SettingsBuilder settingsBuilder = lookup.lookup(SettingsBuilder.class)
                 .orElseThrow(() -> new NoSuchElementException("No SettingsBuilder present"));
         SettingsDecrypter settingsDecrypter = lookup.lookup(SettingsDecrypter.class)
@@ -48,26 +139,64 @@ public class StandaloneStaticRuntime extends StandaloneRuntimeSupport {
         ProfileSelector profileSelector = lookup.lookup(ProfileSelector.class)
                 .orElseThrow(() -> new NoSuchElementException("No ProfileSelector present"));
         return buildContext(
-                this,
-                preBoot,
-                repositorySystem,
-                settingsBuilder,
-                settingsDecrypter,
-                profileSelector,
-                lookup,
-                repositorySystem::shutdown);
+                this, preBoot, repositorySystem, settingsBuilder, settingsDecrypter, profileSelector, lookup, closer);
+    }
+
+    protected Lookup createLookup(PreBoot preBoot) {
+        return new IteratingLookup(
+                Arrays.asList(
+                        createStaticLookup(preBoot),
+                        createRepositorySystemLookup(preBoot),
+                        createCompatLookup(preBoot)),
+                isLookupCached(preBoot));
     }
 
+    /**
+     * Returns {@code true} if results of lookups created by {@link #createStaticLookup(PreBoot)},
+     * {@link #createRepositorySystemLookup(PreBoot)} and {@link #createCompatLookup(PreBoot)} may be cached. Default
+     * lookups are static (always return same result for same query), hence cached. Override and return {@code false}
+     * if any overridden lookup is not static.
+     *
+     * @since 2.4.47
+     */
+    protected boolean isLookupCached(PreBoot preBoot) {
+        return true;
+    }
+
+    /**
+     * Creates the lookup of static components. Results of returned lookup are cached, unless
+     * {@link #isLookupCached(PreBoot)} is overridden.
+     */
     protected Lookup createStaticLookup(PreBoot preBoot) {
         return new StaticLookup(preBoot);
     }
 
+    /**
+     * Creates the lookup of Resolver components. Results of returned lookup are cached, unless
+     * {@link #isLookupCached(PreBoot)} is overridden.
+     */
     protected Lookup createRepositorySystemLookup(PreBoot preBoot) {
         return new MemoizingRepositorySystemSupplierLookup(
-                preBoot.getOverrides().getStaticExtensions());
+                preBoot.getOverrides().getStaticExtensions(),
+                ConfigUtils.getBoolean(preBoot.getOverrides().getConfigProperties(), false, CONFIG_PROP_LAZY));
     }
 
+    /**
+     * Creates the lookup of compatibility components. Results of returned lookup are cached, unless
+     * {@link #isLookupCached(PreBoot)} is overridden.
+     */
     protected Lookup createCompatLookup(PreBoot preBoot) {
         return new CompatLookup(preBoot);
     }
+
+    private static final class PooledLookup {
+        private final Lookup lookup;
+        private final RepositorySystem repositorySystem;
+        private int references;
+
+        private PooledLookup(Lookup lookup, RepositorySystem repositorySystem) {
+            this.lookup = lookup;
+            this.repositorySystem = repositorySystem;
+        }
+    }
 }
@@ -7,29 +7,80 @@
  */
 package eu.maveniverse.maven.mima.runtime.standalonestatic;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import eu.maveniverse.maven.mima.context.Context;
 import eu.maveniverse.maven.mima.context.ContextOverrides;
+import eu.maveniverse.maven.mima.context.Interner;
+import eu.maveniverse.maven.mima.context.ParallelResolver;
+import eu.maveniverse.maven.mima.context.ResolutionMetrics;
+import eu.maveniverse.maven.mima.context.SharedRepositoryCache;
+import eu.maveniverse.maven.mima.context.StartupTimings;
+import eu.maveniverse.maven.mima.context.StreamingResolver;
+import eu.maveniverse.maven.mima.context.internal.ExecutorSupport;
+import eu.maveniverse.maven.mima.context.internal.RuntimeSupport;
+import eu.maveniverse.maven.mima.runtime.shared.StandaloneRuntimeSupport;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.aether.AbstractRepositoryListener;
+import org.eclipse.aether.ConfigurationProperties;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositoryEvent;
+import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.CollectResult;
+import org.eclipse.aether.collection.DependencyCollectionException;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.impl.Installer;
+import org.eclipse.aether.installation.InstallRequest;
 import org.eclipse.aether.repository.ArtifactRepository;
+import org.eclipse.aether.repository.AuthenticationContext;
+import org.eclipse.aether.repository.AuthenticationSelector;
+import org.eclipse.aether.resolution.ArtifactDescriptorException;
+import org.eclipse.aether.resolution.ArtifactDescriptorRequest;
+import org.eclipse.aether.resolution.ArtifactDescriptorResult;
 import org.eclipse.aether.resolution.ArtifactRequest;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.resolution.ArtifactResult;
+import org.eclipse.aether.resolution.DependencyRequest;
 import org.eclipse.aether.resolution.VersionRequest;
 import org.eclipse.aether.resolution.VersionResolutionException;
 import org.eclipse.aether.resolution.VersionResult;
 import org.eclipse.aether.spi.checksums.TrustedChecksumsSource;
 import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
+import org.eclipse.aether.spi.connector.transport.TransporterFactory;
+import org.eclipse.aether.util.repository.SimpleArtifactDescriptorPolicy;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sonatype.plexus.components.cipher.DefaultPlexusCipher;
+import org.sonatype.plexus.components.sec.dispatcher.DefaultSecDispatcher;
 
 public class StandaloneStaticRuntimeTest {
     @Test
@@ -120,4 +171,869 @@ public class StandaloneStaticRuntimeTest {
                     e.getMessage());
         }
     }
+
+    @Test
+    void pooled() {
+        ContextOverrides overrides = ContextOverrides.create()
+                .withLocalRepositoryOverride(Paths.get("target/local-repo"))
+                .configProperties(Collections.singletonMap(StandaloneStaticRuntime.CONFIG_PROP_POOLED, "true"))
+                .build();
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        RepositorySystem pooled;
+        try (Context one = runtime.create(overrides)) {
+            pooled = one.repositorySystem();
+            try (Context two = runtime.create(overrides)) {
+                assertSame(pooled, two.repositorySystem());
+            }
+            // one is still open: graph must be still alive and shared
+            try (Context three = runtime.create(overrides)) {
+                assertSame(pooled, three.repositorySystem());
+            }
+            try (Context unpooled = runtime.create(ContextOverrides.create()
+                    .withLocalRepositoryOverride(Paths.get("target/local-repo"))
+                    .build())) {
+                assertNotSame(pooled, unpooled.repositorySystem());
+            }
+            // lazy mode boots different graph
+            HashMap<String, Object> lazy = new HashMap<>(overrides.getConfigProperties());
+            lazy.put(StandaloneStaticRuntime.CONFIG_PROP_LAZY, "true");
+            try (Context lazyOne = runtime.create(
+                            overrides.toBuilder().configProperties(lazy).build());
+                    Context lazyTwo = runtime.create(
+                            overrides.toBuilder().configProperties(lazy).build())) {
+                assertNotSame(pooled, lazyOne.repositorySystem());
+                assertSame(lazyOne.repositorySystem(), lazyTwo.repositorySystem());
+            }
+        }
+        // last close shut down the graph, new one is booted
+        try (Context four = runtime.create(overrides)) {
+            assertNotSame(pooled, four.repositorySystem());
+        }
+    }
+
+    @Test
+    void closeHandlersFailing() {
+        ContextOverrides overrides = ContextOverrides.create()
+                .withLocalRepositoryOverride(Paths.get("target/local-repo"))
+                .configProperties(Collections.singletonMap(StandaloneStaticRuntime.CONFIG_PROP_POOLED, "true"))
+                .build();
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        ArrayList<String> invoked = new ArrayList<>();
+        Context context = runtime.create(overrides);
+        RepositorySystem pooled = context.repositorySystem();
+        context.addCloseHandler(() -> invoked.add("first"));
+        context.addCloseHandler(() -> {
+            invoked.add("second");
+            throw new IllegalStateException("second");
+        });
+        context.addCloseHandler(() -> {
+            invoked.add("third");
+            throw new IllegalStateException("third");
+        });
+        IllegalStateException e = assertThrows(IllegalStateException.class, context::close);
+        assertEquals("third", e.getMessage());
+        assertEquals(1, e.getSuppressed().length);
+        assertEquals("second", e.getSuppressed()[0].getMessage());
+        assertEquals(Arrays.asList("third", "second", "first"), invoked);
+        // context was released from pool nevertheless
+        try (Context other = runtime.create(overrides)) {
+            assertNotSame(pooled, other.repositorySystem());
+        }
+    }
+
+    @Test
+    void settingsCache(@TempDir Path tempDir) throws IOException {
+        Path settingsXml = tempDir.resolve("settings.xml");
+        ContextOverrides overrides = ContextOverrides.create()
+                .withLocalRepositoryOverride(Paths.get("target/local-repo"))
+                .withUserSettings(true)
+                .withUserSettingsXmlOverride(settingsXml)
+                .userProperties(Collections.singletonMap("mirror.url", "https://one.example.com/"))
+                .configProperties(Collections.singletonMap(StandaloneRuntimeSupport.CONFIG_PROP_SETTINGS_CACHE, "true"))
+                .build();
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+
+        writeMirrorSettings(settingsXml, "mirror1");
+        try (Context context = runtime.create(overrides)) {
+            assertEquals("mirror1", context.remoteRepositories().get(0).getId());
+            assertEquals(
+                    "https://one.example.com/",
+                    context.remoteRepositories().get(0).getUrl());
+        }
+        // cached
+        try (Context context = runtime.create(overrides)) {
+            assertEquals("mirror1", context.remoteRepositories().get(0).getId());
+        }
+        // edit not changing size nor last modification time is picked up
+        FileTime lastModified = Files.getLastModifiedTime(settingsXml);
+        long size = Files.size(settingsXml);
+        writeMirrorSettings(settingsXml, "mirror2");
+        Files.setLastModifiedTime(settingsXml, lastModified);
+        assertEquals(size, Files.size(settingsXml));
+        try (Context context = runtime.create(overrides)) {
+            assertEquals("mirror2", context.remoteRepositories().get(0).getId());
+        }
+        // change of property used by settings is picked up
+        try (Context context = runtime.create(overrides.toBuilder()
+                .userProperties(Collections.singletonMap("mirror.url", "https://two.example.com/"))
+                .build())) {
+            assertEquals(
+                    "https://two.example.com/",
+                    context.remoteRepositories().get(0).getUrl());
+        }
+    }
+
+    private static void writeMirrorSettings(Path settingsXml, String mirrorId) throws IOException {
+        Files.write(
+                settingsXml,
+                ("<settings><mirrors><mirror><id>" + mirrorId
+                                + "</id><url>${mirror.url}</url><mirrorOf>*</mirrorOf></mirror></mirrors></settings>")
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void sessionTemplateCache(@TempDir Path tempDir) throws IOException {
+        Path settingsXml = tempDir.resolve("settings.xml");
+        Files.write(
+                settingsXml,
+                ("<settings><servers><server><id>example</id><configuration><httpHeaders><property>"
+                                + "<name>X-Example</name><value>example</value></property></httpHeaders>"
+                                + "</configuration></server></servers></settings>")
+                        .getBytes(StandardCharsets.UTF_8));
+        HashMap<String, Object> configProperties = new HashMap<>();
+        configProperties.put(StandaloneRuntimeSupport.CONFIG_PROP_SETTINGS_CACHE, "true");
+        configProperties.put(StandaloneRuntimeSupport.CONFIG_PROP_SESSION_TEMPLATE_CACHE, "true");
+        ContextOverrides overrides = ContextOverrides.create()
+                .withLocalRepositoryOverride(Paths.get("target/local-repo"))
+                .withUserSettings(true)
+                .withUserSettingsXmlOverride(settingsXml)
+                .configProperties(configProperties)
+                .build();
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        AuthenticationSelector authenticationSelector;
+        try (Context one = runtime.create(overrides);
+                Context two = runtime.create(overrides)) {
+            authenticationSelector = one.repositorySystemSession().getAuthenticationSelector();
+            Map<String, Object> oneConfig = one.repositorySystemSession().getConfigProperties();
+            Map<String, Object> twoConfig = two.repositorySystemSession().getConfigProperties();
+            assertSame(
+                    one.repositorySystemSession().getAuthenticationSelector(),
+                    two.repositorySystemSession().getAuthenticationSelector());
+            for (String key : Arrays.asList(
+                    "aether.connector.wagon.config.example", ConfigurationProperties.HTTP_HEADERS + ".example")) {
+                assertNotNull(oneConfig.get(key), key);
+                assertEquals(oneConfig.get(key), twoConfig.get(key));
+                assertNotSame(oneConfig.get(key), twoConfig.get(key));
+            }
+        }
+        // templates hold decrypted credentials: cache is cleared when last context using it is closed
+        try (Context context = runtime.create(overrides)) {
+            assertNotSame(
+                    authenticationSelector, context.repositorySystemSession().getAuthenticationSelector());
+        }
+    }
+
+    @Test
+    void decryptionCache(@TempDir Path tempDir) throws Exception {
+        Path settingsXml = tempDir.resolve("settings.xml");
+        Path settingsSecurityXml = tempDir.resolve("settings-security.xml");
+        ContextOverrides overrides = ContextOverrides.create()
+                .withLocalRepositoryOverride(Paths.get("target/local-repo"))
+                .withUserSettings(true)
+                .withUserSettingsXmlOverride(settingsXml)
+                .withUserSettingsSecurityXmlOverride(settingsSecurityXml)
+                .configProperties(
+                        Collections.singletonMap(StandaloneRuntimeSupport.CONFIG_PROP_DECRYPTION_CACHE, "true"))
+                .build();
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+
+        writeSecuritySettings(settingsSecurityXml, "master1");
+        writeServerSettings(settingsXml, encrypt("secret1", "master1"));
+        try (Context context = runtime.create(overrides)) {
+            assertEquals("secret1", serverPassword(context));
+            // cached
+            try (Context other = runtime.create(overrides)) {
+                assertEquals("secret1", serverPassword(other));
+            }
+            // changed encrypted value
+            writeServerSettings(settingsXml, encrypt("secret2", "master1"));
+            try (Context other = runtime.create(overrides)) {
+                assertEquals("secret2", serverPassword(other));
+            }
+            // changed settings security file: same encrypted value is decrypted with new master password
+            writeSecuritySettings(settingsSecurityXml, "master2");
+            try (Context other = runtime.create(overrides)) {
+                assertNotEquals("secret2", serverPassword(other));
+            }
+        }
+    }
+
+    private static String encrypt(String value, String passPhrase) throws Exception {
+        return new DefaultPlexusCipher().encryptAndDecorate(value, passPhrase);
+    }
+
+    private static void writeSecuritySettings(Path settingsSecurityXml, String master) throws Exception {
+        Files.write(
+                settingsSecurityXml,
+                ("<settingsSecurity><master>" + encrypt(master, DefaultSecDispatcher.SYSTEM_PROPERTY_SEC_LOCATION)
+                                + "</master></settingsSecurity>")
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeServerSettings(Path settingsXml, String password) throws IOException {
+        Files.write(
+                settingsXml,
+                ("<settings><servers><server><id>mirror</id><username>user</username><password>" + password
+                                + "</password></server></servers><mirrors><mirror><id>mirror</id>"
+                                + "<url>https://repo.example.com/</url><mirrorOf>*</mirrorOf></mirror></mirrors>"
+                                + "</settings>")
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String serverPassword(Context context) {
+        try (AuthenticationContext authenticationContext = AuthenticationContext.forRepository(
+                context.repositorySystemSession(), context.remoteRepositories().get(0))) {
+            return authenticationContext.get(AuthenticationContext.PASSWORD);
+        }
+    }
+
+    @Test
+    void parallelResolver(@TempDir Path localRepository) throws IOException {
+        ArrayList<ArtifactRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            writeJar(localRepository, "org.example:lib" + i + ":1.0");
+            requests.add(new ArtifactRequest(new DefaultArtifact("org.example:lib" + i + ":1.0"), null, "test"));
+        }
+        requests.add(new ArtifactRequest(new DefaultArtifact("org.example:missing:1.0"), null, "test"));
+
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context context = runtime.create(ContextOverrides.create()
+                        .offline(true)
+                        .withLocalRepositoryOverride(localRepository)
+                        .build());
+                ParallelResolver resolver = context.parallelResolver(4)) {
+            List<ArtifactResult> results = resolver.resolveArtifacts(requests);
+            assertEquals(requests.size(), results.size());
+            for (int i = 0; i < 20; i++) {
+                assertSame(requests.get(i), results.get(i).getRequest());
+                assertTrue(results.get(i).isResolved());
+            }
+            ArtifactResult missing = results.get(20);
+            assertFalse(missing.isResolved());
+            assertFalse(missing.getExceptions().isEmpty());
+        }
+    }
+
+    @Test
+    void streamingResolver(@TempDir Path localRepository) throws Exception {
+        writeLibPom(writeJar(localRepository, "org.example:lib:1.0").resolveSibling("lib-1.0.pom"), "dep-a");
+        Path depA = localRepository.resolve("org/example/dep-a/1.0");
+        Files.createDirectories(depA);
+        Files.write(
+                depA.resolve("dep-a-1.0.pom"),
+                ("<project><modelVersion>4.0.0</modelVersion><groupId>org.example</groupId>"
+                                + "<artifactId>dep-a</artifactId><version>1.0</version></project>")
+                        .getBytes(StandardCharsets.UTF_8));
+
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context context = runtime.create(ContextOverrides.create()
+                        .offline(true)
+                        .withLocalRepositoryOverride(localRepository)
+                        .build());
+                StreamingResolver resolver = context.streamingResolver(2)) {
+            ArrayList<String> events = new ArrayList<>();
+            resolver.resolveDependencies(
+                    new DependencyRequest(
+                            new CollectRequest(
+                                    new Dependency(new DefaultArtifact("org.example:lib:1.0"), "compile"), null),
+                            null),
+                    new StreamingResolver.Listener() {
+                        @Override
+                        public void collected(CollectResult result) {
+                            events.add("collected");
+                        }
+
+                        @Override
+                        public void resolved(DependencyNode node, ArtifactResult result) {
+                            events.add(node.getArtifact().getArtifactId() + ":" + result.isResolved());
+                        }
+                    });
+            // dep-a has no jar
+            assertEquals(Arrays.asList("collected", "lib:true", "dep-a:false"), events);
+        }
+    }
+
+    @Test
+    void streamingResolverFiltered(@TempDir Path localRepository) throws Exception {
+        writeJar(localRepository, "org.example:lib:1.0");
+        writeJar(localRepository, "org.example:dep-b:1.0");
+
+        // lib -> dep-a -> dep-c -> dep-a (cycle of nodes rejected by filter), dep-c -> dep-b and lib -> dep-b
+        DefaultDependencyNode root =
+                new DefaultDependencyNode(new Dependency(new DefaultArtifact("org.example:lib:1.0"), "compile"));
+        DefaultDependencyNode depA =
+                new DefaultDependencyNode(new Dependency(new DefaultArtifact("org.example:dep-a:1.0"), "compile"));
+        DefaultDependencyNode depB =
+                new DefaultDependencyNode(new Dependency(new DefaultArtifact("org.example:dep-b:1.0"), "compile"));
+        DefaultDependencyNode depC =
+                new DefaultDependencyNode(new Dependency(new DefaultArtifact("org.example:dep-c:1.0"), "compile"));
+        root.setChildren(new ArrayList<>(Arrays.asList(depA, depB)));
+        depA.setChildren(new ArrayList<>(Collections.singletonList(depC)));
+        depC.setChildren(new ArrayList<>(Arrays.asList(depA, depB)));
+        List<String> rejected = Arrays.asList("dep-a", "dep-c");
+
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context context = runtime.create(ContextOverrides.create()
+                        .offline(true)
+                        .withLocalRepositoryOverride(localRepository)
+                        .build());
+                StreamingResolver resolver = context.streamingResolver(2)) {
+            ArrayList<String> events = new ArrayList<>();
+            resolver.resolveDependencies(
+                    new DependencyRequest(
+                            root,
+                            (node, parents) ->
+                                    !rejected.contains(node.getArtifact().getArtifactId())),
+                    (node, result) -> events.add(node.getArtifact().getArtifactId() + ":" + result.isResolved()));
+            assertEquals(Arrays.asList("lib:true", "dep-b:true"), events);
+        }
+    }
+
+    @Test
+    void lazy(@TempDir Path localRepository) throws Exception {
+        writeJar(localRepository, "org.example:lib:1.0");
+
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context context = runtime.create(ContextOverrides.create()
+                .offline(true)
+                .withLocalRepositoryOverride(localRepository)
+                .configProperties(Collections.singletonMap(StandaloneStaticRuntime.CONFIG_PROP_LAZY, "true"))
+                .build())) {
+            ArtifactResult result = context.repositorySystem()
+                    .resolveArtifact(
+                            context.repositorySystemSession(),
+                            new ArtifactRequest(new DefaultArtifact("org.example:lib:1.0"), null, "test"));
+            assertTrue(result.isResolved());
+
+            // lazily wired components are created on lookup
+            assertTrue(context.lookup().lookup(Installer.class).isPresent());
+            assertTrue(context.lookup().lookup(TransporterFactory.class, "http").isPresent());
+        }
+    }
+
+    @Test
+    void startupTimings() {
+        ArrayList<StartupTimings> published = new ArrayList<>();
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context context = runtime.create(ContextOverrides.create()
+                .withLocalRepositoryOverride(Paths.get("target/local-repo"))
+                .startupListener((c, timings) -> published.add(timings))
+                .build())) {
+            StartupTimings timings = context.startupTimings();
+            assertEquals(
+                    Arrays.asList(
+                            StartupTimings.PRE_BOOT,
+                            StartupTimings.BOOT,
+                            StartupTimings.SETTINGS,
+                            StartupTimings.PROFILES,
+                            StartupTimings.SESSION,
+                            StartupTimings.LOCAL_REPOSITORY_MANAGER),
+                    new ArrayList<>(timings.getPhases().keySet()));
+            assertTrue(timings.getTotal().compareTo(timings.getPhase(StartupTimings.BOOT)) >= 0);
+
+            try (Context derived = context.customize(context.contextOverrides())) {
+                assertEquals(
+                        Collections.singleton(StartupTimings.CUSTOMIZE),
+                        derived.startupTimings().getPhases().keySet());
+            }
+            assertEquals(2, published.size());
+            assertSame(timings, published.get(0));
+        }
+    }
+
+    @Test
+    void resolutionMetrics(@TempDir Path localRepository) throws IOException {
+        writeJar(localRepository, "org.example:lib:1.0");
+
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context context = runtime.create(ContextOverrides.create()
+                .offline(true)
+                .withLocalRepositoryOverride(localRepository)
+                .withResolutionMetrics(true)
+                .build())) {
+            ResolutionMetrics metrics = context.resolutionMetrics().orElseThrow(AssertionError::new);
+            try (ParallelResolver resolver = context.parallelResolver(2)) {
+                resolver.resolveArtifacts(Arrays.asList(
+                        new ArtifactRequest(new DefaultArtifact("org.example:lib:1.0"), null, "test"),
+                        new ArtifactRequest(new DefaultArtifact("org.example:missing:1.0"), null, "test")));
+            }
+            ResolutionMetrics.Snapshot snapshot = metrics.snapshot();
+            assertEquals(1, snapshot.getLocalHits());
+            assertEquals(1, snapshot.getLocalMisses());
+            assertEquals(0.5d, snapshot.getLocalHitRatio());
+            assertEquals(1L, snapshot.toMap().get("local.hits"));
+
+            try (Context derived = context.customize(context.contextOverrides())) {
+                assertSame(metrics, derived.resolutionMetrics().orElse(null));
+            }
+        }
+        try (Context context = runtime.create(ContextOverrides.create()
+                .withLocalRepositoryOverride(localRepository)
+                .build())) {
+            assertFalse(context.resolutionMetrics().isPresent());
+        }
+    }
+
+    @Test
+    void overlayCustomization(@TempDir Path localRepository) throws Exception {
+        writeJar(localRepository, "org.example:lib:1.0");
+
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context context = runtime.create(ContextOverrides.create()
+                .withLocalRepositoryOverride(localRepository)
+                .build())) {
+            try (Context derived = context.customize(context.contextOverrides().toBuilder()
+                    .offline(true)
+                    .withOverlayCustomization(true)
+                    .build())) {
+                RepositorySystemSession session = derived.repositorySystemSession();
+                assertFalse(session instanceof DefaultRepositorySystemSession);
+                assertTrue(session.isOffline());
+                assertFalse(context.repositorySystemSession().isOffline());
+                assertSame(context.repositorySystemSession().getCache(), session.getCache());
+                assertSame(
+                        context.repositorySystemSession().getLocalRepositoryManager(),
+                        session.getLocalRepositoryManager());
+                assertSame(context.mavenUserHome(), derived.mavenUserHome());
+
+                ArtifactResult result = derived.repositorySystem()
+                        .resolveArtifact(
+                                session, new ArtifactRequest(new DefaultArtifact("org.example:lib:1.0"), null, "test"));
+                assertTrue(result.isResolved());
+            }
+            try (Context derived = context.customize(context.contextOverrides().toBuilder()
+                    .withOverlayCustomization(true)
+                    .build())) {
+                assertEquals(context.remoteRepositories(), derived.remoteRepositories());
+            }
+        }
+    }
+
+    @Test
+    void sharedLocalRepositoryManager(@TempDir Path localRepository) {
+        HashMap<String, Object> configProperties = new HashMap<>();
+        configProperties.put(StandaloneStaticRuntime.CONFIG_PROP_POOLED, "true");
+        configProperties.put(RuntimeSupport.CONFIG_PROP_SHARED_LOCAL_REPOSITORY_MANAGER, "true");
+        ContextOverrides overrides = ContextOverrides.create()
+                .withLocalRepositoryOverride(localRepository)
+                .configProperties(configProperties)
+                .build();
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context one = runtime.create(overrides);
+                Context two = runtime.create(overrides)) {
+            assertSame(
+                    one.repositorySystemSession().getLocalRepositoryManager(),
+                    two.repositorySystemSession().getLocalRepositoryManager());
+
+            // different configuration affecting local repository manager
+            HashMap<String, Object> split = new HashMap<>(configProperties);
+            split.put("aether.enhancedLocalRepository.split", "true");
+            try (Context three =
+                    runtime.create(overrides.toBuilder().configProperties(split).build())) {
+                assertNotSame(
+                        one.repositorySystemSession().getLocalRepositoryManager(),
+                        three.repositorySystemSession().getLocalRepositoryManager());
+            }
+        }
+    }
+
+    @Test
+    void indexedLocalRepositoryManager(@TempDir Path localRepository, @TempDir Path tempDir) throws Exception {
+        writeJar(localRepository, "org.example:lib:1.0");
+
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        // indexing without sharing is refused
+        IllegalStateException e = assertThrows(
+                IllegalStateException.class,
+                () -> runtime.create(ContextOverrides.create()
+                        .offline(true)
+                        .withLocalRepositoryOverride(localRepository)
+                        .configProperties(Collections.singletonMap(
+                                RuntimeSupport.CONFIG_PROP_INDEXED_LOCAL_REPOSITORY_MANAGER, "true"))
+                        .build()));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+
+        HashMap<String, Object> configProperties = new HashMap<>();
+        configProperties.put(RuntimeSupport.CONFIG_PROP_SHARED_LOCAL_REPOSITORY_MANAGER, "true");
+        configProperties.put(RuntimeSupport.CONFIG_PROP_INDEXED_LOCAL_REPOSITORY_MANAGER, "true");
+        try (Context context = runtime.create(ContextOverrides.create()
+                .offline(true)
+                .withLocalRepositoryOverride(localRepository)
+                .configProperties(configProperties)
+                .build())) {
+            RepositorySystem system = context.repositorySystem();
+            RepositorySystemSession session = context.repositorySystemSession();
+            for (int i = 0; i < 2; i++) {
+                assertTrue(system.resolveArtifact(
+                                session, new ArtifactRequest(new DefaultArtifact("org.example:lib:1.0"), null, "test"))
+                        .isResolved());
+            }
+
+            // created behind the back of index: not visible
+            writeJar(localRepository, "org.example:other:1.0");
+            assertThrows(
+                    ArtifactResolutionException.class,
+                    () -> system.resolveArtifact(
+                            session, new ArtifactRequest(new DefaultArtifact("org.example:other:1.0"), null, "test")));
+
+            // installed: index is updated
+            Path jar = tempDir.resolve("installed.jar");
+            Files.write(jar, new byte[] {3});
+            system.install(
+                    session,
+                    new InstallRequest()
+                            .addArtifact(new DefaultArtifact("org.example:installed:1.0").setFile(jar.toFile())));
+            assertTrue(system.resolveArtifact(
+                            session,
+                            new ArtifactRequest(new DefaultArtifact("org.example:installed:1.0"), null, "test"))
+                    .isResolved());
+
+            // index is shared with contexts using other repository systems
+            try (Context other = runtime.create(ContextOverrides.create()
+                    .offline(true)
+                    .withLocalRepositoryOverride(localRepository)
+                    .configProperties(configProperties)
+                    .build())) {
+                assertNotSame(system, other.repositorySystem());
+                assertThrows(ArtifactResolutionException.class, () -> other.repositorySystem()
+                        .resolveArtifact(
+                                other.repositorySystemSession(),
+                                new ArtifactRequest(new DefaultArtifact("org.example:other:1.0"), null, "test")));
+                assertTrue(other.repositorySystem()
+                        .resolveArtifact(
+                                other.repositorySystemSession(),
+                                new ArtifactRequest(new DefaultArtifact("org.example:installed:1.0"), null, "test"))
+                        .isResolved());
+            }
+        }
+    }
+
+    @Test
+    void virtualThreads(@TempDir Path localRepository) throws Exception {
+        ArrayList<ArtifactRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            writeJar(localRepository, "org.example:lib" + i + ":1.0");
+            requests.add(new ArtifactRequest(new DefaultArtifact("org.example:lib" + i + ":1.0"), null, "test"));
+        }
+        Map<Thread, Boolean> threads = new ConcurrentHashMap<>();
+
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context context = runtime.create(ContextOverrides.create()
+                        .offline(true)
+                        .withLocalRepositoryOverride(localRepository)
+                        .withVirtualThreads(true)
+                        .repositoryListener(new AbstractRepositoryListener() {
+                            @Override
+                            public void artifactResolved(RepositoryEvent event) {
+                                threads.put(Thread.currentThread(), Boolean.TRUE);
+                            }
+                        })
+                        .build());
+                ParallelResolver resolver = context.parallelResolver(4)) {
+            for (ArtifactResult result : resolver.resolveArtifacts(requests)) {
+                assertTrue(result.isResolved());
+            }
+        }
+        assertFalse(threads.isEmpty());
+        for (Thread thread : threads.keySet()) {
+            assertTrue(thread.getName().startsWith("mima-resolver-"), thread.getName());
+            if (ExecutorSupport.isVirtualThreadsSupported()) {
+                assertEquals(Boolean.TRUE, Thread.class.getMethod("isVirtual").invoke(thread));
+            }
+        }
+    }
+
+    @Test
+    void sharedRepositoryCache(@TempDir Path localRepository) throws Exception {
+        Path dir = localRepository.resolve("org/example/lib");
+        Files.createDirectories(dir);
+        Files.write(
+                dir.resolve("maven-metadata-local.xml"),
+                ("<metadata><groupId>org.example</groupId><artifactId>lib</artifactId><versioning>"
+                                + "<latest>1.0</latest><release>1.0</release><versions><version>1.0</version></versions>"
+                                + "</versioning></metadata>")
+                        .getBytes(StandardCharsets.UTF_8));
+
+        SharedRepositoryCache cache = new SharedRepositoryCache(1000, Duration.ofMinutes(5));
+        ContextOverrides overrides = ContextOverrides.create()
+                .offline(true)
+                .withLocalRepositoryOverride(localRepository)
+                .repositoryCache(cache)
+                .build();
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context context = runtime.create(overrides)) {
+            assertSame(cache, context.repositorySystemSession().getCache());
+            VersionResult result = context.repositorySystem()
+                    .resolveVersion(
+                            context.repositorySystemSession(),
+                            new VersionRequest(new DefaultArtifact("org.example:lib:LATEST"), null, "test"));
+            assertEquals("1.0", result.getVersion());
+            assertTrue(cache.size() > 0);
+
+            try (Context reset = ((RuntimeSupport) context.getRuntime()).customizeContext(overrides, context, true)) {
+                assertSame(cache, reset.repositorySystemSession().getCache());
+            }
+        }
+        try (Context context = runtime.create(overrides)) {
+            assertSame(cache, context.repositorySystemSession().getCache());
+        }
+    }
+
+    @Test
+    void sharedRepositoryCacheSessionScoped(@TempDir Path localRepository) throws Exception {
+        writeLibPom(writeJar(localRepository, "org.example:lib:1.0").resolveSibling("lib-1.0.pom"), "dep-a");
+
+        SharedRepositoryCache cache = new SharedRepositoryCache(1000, Duration.ofMinutes(5));
+        ContextOverrides offline = ContextOverrides.create()
+                .offline(true)
+                .withLocalRepositoryOverride(localRepository)
+                .artifactDescriptorPolicy(new SimpleArtifactDescriptorPolicy(false, false))
+                .repositoryCache(cache)
+                .build();
+        ContextOverrides online = offline.toBuilder().offline(false).build();
+        CollectRequest collectRequest =
+                new CollectRequest(new Dependency(new DefaultArtifact("org.example:lib:1.0"), "compile"), null);
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context context = runtime.create(offline)) {
+            // dep-a has no POM
+            try {
+                context.repositorySystem().collectDependencies(context.repositorySystemSession(), collectRequest);
+                fail("dep-a descriptor should be missing");
+            } catch (DependencyCollectionException e) {
+                assertFalse(e.getResult().getExceptions().isEmpty());
+            }
+        }
+
+        Path depA = localRepository.resolve("org/example/dep-a/1.0");
+        Files.createDirectories(depA);
+        Files.write(
+                depA.resolve("dep-a-1.0.pom"),
+                ("<project><modelVersion>4.0.0</modelVersion><groupId>org.example</groupId>"
+                                + "<artifactId>dep-a</artifactId><version>1.0</version><dependencies><dependency>"
+                                + "<groupId>org.example</groupId><artifactId>dep-b</artifactId><version>1.0</version>"
+                                + "</dependency></dependencies></project>")
+                        .getBytes(StandardCharsets.UTF_8));
+        Path depB = localRepository.resolve("org/example/dep-b/1.0");
+        Files.createDirectories(depB);
+        Files.write(
+                depB.resolve("dep-b-1.0.pom"),
+                ("<project><modelVersion>4.0.0</modelVersion><groupId>org.example</groupId>"
+                                + "<artifactId>dep-b</artifactId><version>1.0</version></project>")
+                        .getBytes(StandardCharsets.UTF_8));
+        // session scoped state (ie. descriptor pool of collector) of previous context is not shared
+        try (Context context = runtime.create(online)) {
+            CollectResult result =
+                    context.repositorySystem().collectDependencies(context.repositorySystemSession(), collectRequest);
+            assertTrue(result.getExceptions().isEmpty());
+            DependencyNode node = result.getRoot().getChildren().get(0);
+            assertEquals("dep-a", node.getArtifact().getArtifactId());
+            assertEquals(1, node.getChildren().size());
+        }
+    }
+
+    @Test
+    void sharedRepositoryCacheScopedByProperties(@TempDir Path localRepository) throws Exception {
+        Path bom = localRepository.resolve("org/example/bom/1.0/bom-1.0.pom");
+        Files.createDirectories(bom.getParent());
+        Files.write(
+                bom,
+                ("<project><modelVersion>4.0.0</modelVersion><groupId>org.example</groupId>"
+                                + "<artifactId>bom</artifactId><version>1.0</version><packaging>pom</packaging>"
+                                + "<dependencyManagement><dependencies><dependency><groupId>org.example</groupId>"
+                                + "<artifactId>dep</artifactId><version>${dep.version}</version></dependency>"
+                                + "</dependencies></dependencyManagement></project>")
+                        .getBytes(StandardCharsets.UTF_8));
+        Path lib = localRepository.resolve("org/example/lib/1.0/lib-1.0.pom");
+        Files.createDirectories(lib.getParent());
+        Files.write(
+                lib,
+                ("<project><modelVersion>4.0.0</modelVersion><groupId>org.example</groupId>"
+                                + "<artifactId>lib</artifactId><version>1.0</version><dependencyManagement>"
+                                + "<dependencies><dependency><groupId>org.example</groupId><artifactId>bom</artifactId>"
+                                + "<version>1.0</version><type>pom</type><scope>import</scope></dependency>"
+                                + "</dependencies></dependencyManagement></project>")
+                        .getBytes(StandardCharsets.UTF_8));
+
+        SharedRepositoryCache cache = new SharedRepositoryCache(1000, Duration.ofMinutes(5));
+        ContextOverrides overrides = ContextOverrides.create()
+                .offline(true)
+                .withLocalRepositoryOverride(localRepository)
+                .repositoryCache(cache)
+                .build();
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        for (String version : Arrays.asList("1.0", "2.0")) {
+            try (Context context = runtime.create(overrides.toBuilder()
+                    .userProperties(Collections.singletonMap("dep.version", version))
+                    .build())) {
+                ArtifactDescriptorResult result = context.repositorySystem()
+                        .readArtifactDescriptor(
+                                context.repositorySystemSession(),
+                                new ArtifactDescriptorRequest(
+                                        new DefaultArtifact("org.example:lib:1.0"), null, "test"));
+                assertEquals(1, result.getManagedDependencies().size());
+                assertEquals(
+                        version,
+                        result.getManagedDependencies().get(0).getArtifact().getVersion());
+            }
+        }
+    }
+
+    @Test
+    void memoizeDescriptors(@TempDir Path localRepository) throws Exception {
+        Path pom = localRepository.resolve("org/example/lib/1.0/lib-1.0.pom");
+        Files.createDirectories(pom.getParent());
+        writeLibPom(pom, "dep-a");
+
+        HashMap<String, Object> configProperties = new HashMap<>();
+        configProperties.put(StandaloneStaticRuntime.CONFIG_PROP_POOLED, "true");
+        configProperties.put(StandaloneStaticRuntime.CONFIG_PROP_MEMOIZE_DESCRIPTORS, "true");
+        ContextOverrides memoizing = ContextOverrides.create()
+                .offline(true)
+                .withLocalRepositoryOverride(localRepository)
+                .configProperties(configProperties)
+                .build();
+        ContextOverrides plain = memoizing.toBuilder()
+                .configProperties(Collections.singletonMap(StandaloneStaticRuntime.CONFIG_PROP_POOLED, "true"))
+                .build();
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context first = runtime.create(memoizing)) {
+            assertEquals("dep-a", readDependency(first));
+
+            // descriptor changed on disk: pooled contexts with memoization see the memoized one, others read it again
+            writeLibPom(pom, "dep-b");
+            try (Context context = runtime.create(memoizing);
+                    Context other = runtime.create(plain)) {
+                assertEquals("dep-a", readDependency(context));
+                assertEquals("dep-b", readDependency(other));
+            }
+        }
+    }
+
+    @Test
+    void memoizeDescriptorsStrictAfterLenient(@TempDir Path localRepository) {
+        HashMap<String, Object> configProperties = new HashMap<>();
+        configProperties.put(StandaloneStaticRuntime.CONFIG_PROP_POOLED, "true");
+        configProperties.put(StandaloneStaticRuntime.CONFIG_PROP_MEMOIZE_DESCRIPTORS, "true");
+        ContextOverrides lenient = ContextOverrides.create()
+                .offline(true)
+                .withLocalRepositoryOverride(localRepository)
+                .artifactDescriptorPolicy(new SimpleArtifactDescriptorPolicy(true, true))
+                .configProperties(configProperties)
+                .build();
+        ContextOverrides strict = lenient.toBuilder()
+                .artifactDescriptorPolicy(new SimpleArtifactDescriptorPolicy(false, false))
+                .build();
+        ArtifactDescriptorRequest request =
+                new ArtifactDescriptorRequest(new DefaultArtifact("org.example:missing:1.0"), null, "test");
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context first = runtime.create(lenient)) {
+            assertDoesNotThrow(
+                    () -> first.repositorySystem().readArtifactDescriptor(first.repositorySystemSession(), request));
+
+            // descriptor missing: the empty result of lenient context is not valid for strict one
+            try (Context context = runtime.create(strict)) {
+                assertSame(first.repositorySystem(), context.repositorySystem());
+                assertThrows(ArtifactDescriptorException.class, () -> context.repositorySystem()
+                        .readArtifactDescriptor(context.repositorySystemSession(), request));
+            }
+        }
+    }
+
+    @Test
+    void memoizeDescriptorsMissing(@TempDir Path localRepository) throws Exception {
+        HashMap<String, Object> configProperties = new HashMap<>();
+        configProperties.put(StandaloneStaticRuntime.CONFIG_PROP_POOLED, "true");
+        configProperties.put(StandaloneStaticRuntime.CONFIG_PROP_MEMOIZE_DESCRIPTORS, "true");
+        ContextOverrides lenient = ContextOverrides.create()
+                .offline(true)
+                .withLocalRepositoryOverride(localRepository)
+                .artifactDescriptorPolicy(new SimpleArtifactDescriptorPolicy(true, true))
+                .configProperties(configProperties)
+                .build();
+        ArtifactDescriptorRequest request =
+                new ArtifactDescriptorRequest(new DefaultArtifact("org.example:lib:1.0"), null, "test");
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context first = runtime.create(lenient)) {
+            // descriptor missing: lenient policy gives empty result
+            assertTrue(first.repositorySystem()
+                    .readArtifactDescriptor(first.repositorySystemSession(), request)
+                    .getDependencies()
+                    .isEmpty());
+
+            Path pom = localRepository.resolve("org/example/lib/1.0/lib-1.0.pom");
+            Files.createDirectories(pom.getParent());
+            writeLibPom(pom, "dep-a");
+            try (Context context = runtime.create(lenient)) {
+                assertSame(first.repositorySystem(), context.repositorySystem());
+                assertEquals("dep-a", readDependency(context));
+            }
+        }
+    }
+
+    @Test
+    void interning(@TempDir Path localRepository) {
+        ContextOverrides overrides = ContextOverrides.create()
+                .offline(true)
+                .withLocalRepositoryOverride(localRepository)
+                .withInterning(true)
+                .build();
+        StandaloneStaticRuntime runtime = new StandaloneStaticRuntime();
+        try (Context context = runtime.create(overrides)) {
+            Interner interner = context.interner().orElseThrow(AssertionError::new);
+            assertSame(interner.repositories(context.remoteRepositories()), context.remoteRepositories());
+            try (Context derived = context.customize(
+                    overrides.toBuilder().withOverlayCustomization(true).build())) {
+                assertSame(interner, derived.interner().orElse(null));
+                assertSame(context.remoteRepositories(), derived.remoteRepositories());
+            }
+        }
+        try (Context context =
+                runtime.create(overrides.toBuilder().withInterning(false).build())) {
+            assertFalse(context.interner().isPresent());
+        }
+    }
+
+    /**
+     * Writes a dummy jar of artifact with given coordinates into local repository, and returns its path.
+     */
+    private static Path writeJar(Path localRepository, String coords) throws IOException {
+        Artifact artifact = new DefaultArtifact(coords);
+        Path jar = localRepository
+                .resolve(artifact.getGroupId().replace('.', '/'))
+                .resolve(artifact.getArtifactId())
+                .resolve(artifact.getVersion())
+                .resolve(artifact.getArtifactId() + "-" + artifact.getVersion() + ".jar");
+        Files.createDirectories(jar.getParent());
+        Files.write(jar, coords.getBytes(StandardCharsets.UTF_8));
+        return jar;
+    }
+
+    private static void writeLibPom(Path pom, String dependency) throws IOException {
+        Files.write(
+                pom,
+                ("<project><modelVersion>4.0.0</modelVersion><groupId>org.example</groupId><artifactId>lib</artifactId>"
+                                + "<version>1.0</version><dependencies><dependency><groupId>org.example</groupId>"
+                                + "<artifactId>" + dependency + "</artifactId><version>1.0</version></dependency>"
+                                + "</dependencies></project>")
+                        .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readDependency(Context context) throws ArtifactDescriptorException {
+        ArtifactDescriptorResult result = context.repositorySystem()
+                .readArtifactDescriptor(
+                        context.repositorySystemSession(),
+                        new ArtifactDescriptorRequest(new DefaultArtifact("org.example:lib:1.0"), null, "test"));
+        assertEquals(1, result.getDependencies().size());
+        return result.getDependencies().get(0).getArtifact().getArtifactId();
+    }
 }